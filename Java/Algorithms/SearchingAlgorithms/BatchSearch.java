@@ -0,0 +1,175 @@
+package org.dsahub;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    BATCH SEARCH
+    ------------------------------------------------------------------------------------
+    Looks up many keys in the same sorted array at once. Calling BinarySearch once per
+    key repeats the same work every time: each search starts again at the middle of the
+    array and re-walks the top of the implicit search tree. When the keys come as a
+    batch there are better options:
+
+    - Co-scan (search, lowerBounds): with the queries sorted too, the answers are also
+      sorted, so each search can start where the previous one ended. The cursor gallops
+      forward (ExponentialSearch) instead of restarting, costing O(log d) for a jump of
+      d elements. Over the whole batch this is O(m log(n / m)) for m queries - between
+      m binary searches (few queries) and a plain merge (as many queries as keys).
+
+    - Interleaved (searchInterleaved): for queries in any order. Runs GROUP branchless
+      binary searches in lock-step. Every search over the same array takes exactly the
+      same number of steps, so one loop drives all of them, and the GROUP independent
+      memory loads per step are in flight at the same time instead of one after another.
+
+    - Parallel (parallelSearch): splits the sorted query batch across a ForkJoinPool;
+      each task co-scans its own slice of the queries.
+
+    All methods return one position per query, as an index into the sorted array: the
+    position of the first equal element (or -1 if absent) for the search methods, and
+    the first element >= key (or array.length) for lowerBounds.
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Co-scan:     O(m log(n / m + 1)) for m sorted queries on n keys
+    - Interleaved: O(m log n), but with GROUP loads overlapping in memory
+    - Parallel:    O(m log(n / m + 1)) work, split over the pool's threads
+    - Space Complexity: O(m) for the result array
+
+ */
+
+public class BatchSearch {
+
+    public static final int GROUP = 8;                  // Searches run in lock-step by searchInterleaved
+    public static final int PARALLEL_THRESHOLD = 4096;  // Queries per parallel task
+
+
+    // CO-SCAN (QUERIES SORTED ASCENDING)
+
+    // Position of the first element equal to each query, or -1; queries must be sorted
+    public static int[] search(int[] array, int[] queries) {
+        int[] result = new int[queries.length];
+        coScan(array, queries, 0, queries.length, result, true);
+        return result;
+    }
+
+    // Position of the first element >= each query; queries must be sorted
+    public static int[] lowerBounds(int[] array, int[] queries) {
+        int[] result = new int[queries.length];
+        coScan(array, queries, 0, queries.length, result, false);
+        return result;
+    }
+
+
+    // INTERLEAVED (QUERIES IN ANY ORDER)
+
+    // Position of the first element equal to each query, or -1
+    public static int[] searchInterleaved(int[] array, int[] queries) {
+        int[] result = new int[queries.length];
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(result, -1);
+            return result;
+        }
+        int[] base = new int[GROUP];
+        int q = 0;
+        for (; q + GROUP <= queries.length; q += GROUP) {
+            Arrays.fill(base, 0);
+            int len = n;
+            while (len > 1) {                           // Same steps for every search in the group
+                int half = len >>> 1;
+                for (int j = 0; j < GROUP; j++) {
+                    int b = base[j];
+                    base[j] = (array[b + half - 1] < queries[q + j]) ? b + half : b;
+                }
+                len -= half;
+            }
+            for (int j = 0; j < GROUP; j++) {
+                int key = queries[q + j];
+                int i = base[j] + (array[base[j]] < key ? 1 : 0);
+                result[q + j] = (i < n && array[i] == key) ? i : -1;
+            }
+        }
+        for (; q < queries.length; q++) {               // Leftover queries, one at a time
+            result[q] = BranchlessBinarySearch.search(array, queries[q]);
+        }
+        return result;
+    }
+
+
+    // PARALLEL CO-SCAN (QUERIES SORTED ASCENDING)
+
+    // Same as search(), splitting the queries over the common ForkJoinPool
+    public static int[] parallelSearch(int[] array, int[] queries) {
+        return parallelSearch(array, queries, ForkJoinPool.commonPool());
+    }
+
+    // Same as search(), splitting the queries over the given pool
+    public static int[] parallelSearch(int[] array, int[] queries, ForkJoinPool pool) {
+        int[] result = new int[queries.length];
+        if (queries.length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            coScan(array, queries, 0, queries.length, result, true);
+        }
+        else {
+            pool.invoke(new SearchTask(array, queries, 0, queries.length, result));
+        }
+        return result;
+    }
+
+
+    //-------------- NESTED SEARCH TASK CLASS ---------------
+    // Co-scans queries[from, to), splitting the range in half while it is large
+    private static final class SearchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array, queries, result;
+        private final int from, to;
+
+        SearchTask(int[] array, int[] queries, int from, int to, int[] result) {
+            this.array = array;
+            this.queries = queries;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                coScan(array, queries, from, to, result, true);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SearchTask(array, queries, from, mid, result),
+                      new SearchTask(array, queries, mid, to, result));
+        }
+    }
+    //---------- END OF NESTED SEARCH TASK CLASS ------------
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Answers queries[from, to) into result[from, to), galloping forward from each answer.
+    // exact: report the position of an equal element or -1, else the lower bound
+    private static void coScan(int[] array, int[] queries, int from, int to, int[] result, boolean exact) {
+        int n = array.length;
+        int cursor = 0;                                 // Lower bound of the previous query
+        for (int q = from; q < to; q++) {
+            int key = queries[q];
+            if (q > from && key < queries[q - 1]) {
+                throw new IllegalArgumentException("Queries must be sorted in ascending order");
+            }
+            if (cursor < n) {
+                cursor = ExponentialSearch.lowerBound(array, key, cursor);
+            }
+            if (exact) {
+                result[q] = (cursor < n && array[cursor] == key) ? cursor : -1;
+            }
+            else {
+                result[q] = cursor;
+            }
+        }
+    }
+}
@@ -11,12 +11,16 @@ package org.dsahub;
     time complexity and making it much faster than linear search methods.
     ------------------------------------------------------------------------------------
 
+    - Returns the index of some element equal to the target, or -1 if there is none
+    - For lower/upper bounds and faster variants on large arrays see
+      BranchlessBinarySearch, ExponentialSearch, InterpolationSearch and EytzingerSearch
+
  */
 
 public class BinarySearch {
 
     // Binary Search algorithm function
-    static int binarySearch(int[] array, int target) {
+    public static int binarySearch(int[] array, int target) {
 
         int left = 0;                                   // Index of the leftmost element
         int right = array.length - 1;                   // Index of the rightmost element
@@ -39,4 +43,55 @@ public class BinarySearch {
         return -1;                                      // Target not found in the array
     }
 
+    // Binary Search of array[lo, hi) only
+    public static int binarySearch(int[] array, int lo, int hi, int target) {
+
+        checkRange(array.length, lo, hi);
+        int left = lo;
+        int right = hi - 1;
+
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            if (array[mid] == target) {
+                return mid;
+            }
+            else if (array[mid] < target) {
+                left = mid + 1;
+            }
+            else {
+                right = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Binary Search of a long array, in array[lo, hi) only
+    public static int binarySearch(long[] array, int lo, int hi, long target) {
+
+        checkRange(array.length, lo, hi);
+        int left = lo;
+        int right = hi - 1;
+
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            if (array[mid] == target) {
+                return mid;
+            }
+            else if (array[mid] < target) {
+                left = mid + 1;
+            }
+            else {
+                right = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Checks that [lo, hi) is a valid range of an array with the given length
+    static void checkRange(int length, int lo, int hi) {
+        if (lo < 0 || hi > length || lo > hi) {
+            throw new IndexOutOfBoundsException("Range [" + lo + ", " + hi + ") out of bounds for length " + length);
+        }
+    }
+
 }
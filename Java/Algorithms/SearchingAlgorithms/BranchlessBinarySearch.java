@@ -0,0 +1,90 @@
+package org.dsahub;
+
+/*
+    BRANCHLESS BINARY SEARCH
+    ------------------------------------------------------------------------------------
+    A binary search written so that the loop body has no data-dependent branch. The
+    classic version (see BinarySearch) decides "go left or go right" with an if/else;
+    on a large array that comparison is a coin flip the CPU cannot predict, and every
+    misprediction throws away ~15-20 cycles of work.
+
+    Here the loop only ever shrinks the range by half and moves the base with a
+    conditional expression:
+
+        base = (array[base + half] < key) ? base + half : base;
+
+    which the JIT compiles to a conditional move. The number of iterations depends only
+    on the length of the array, never on the key, so the loop branch is always predicted
+    correctly. The price is that it never stops early on an exact match - which does not
+    matter, because an early hit is rare on a large array anyway.
+
+    OPERATIONS:
+    ------------------------------------------------------------------------------------
+    - lowerBound(a, key): Index of the first element >= key (a.length if there is none)
+    - upperBound(a, key): Index of the first element > key (a.length if there is none)
+    - search(a, key): Index of the first element equal to key, or -1
+    - Each has a range version working on a[lo, hi) only
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(log n), exactly ceil(log2 n) + 1 comparisons
+    - Space Complexity: O(1)
+    - The array must be sorted in ascending order
+
+ */
+
+public class BranchlessBinarySearch {
+
+    // Index of the first element >= key
+    public static int lowerBound(int[] array, int key) {
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    // Index of the first element >= key in array[lo, hi), or hi if there is none
+    public static int lowerBound(int[] array, int lo, int hi, int key) {
+        BinarySearch.checkRange(array.length, lo, hi);
+        if (lo == hi) {
+            return hi;
+        }
+        int base = lo;
+        int n = hi - lo;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = (array[base + half - 1] < key) ? base + half : base;    // Conditional move
+            n -= half;
+        }
+        return base + (array[base] < key ? 1 : 0);
+    }
+
+    // Index of the first element > key
+    public static int upperBound(int[] array, int key) {
+        return upperBound(array, 0, array.length, key);
+    }
+
+    // Index of the first element > key in array[lo, hi), or hi if there is none
+    public static int upperBound(int[] array, int lo, int hi, int key) {
+        BinarySearch.checkRange(array.length, lo, hi);
+        if (lo == hi) {
+            return hi;
+        }
+        int base = lo;
+        int n = hi - lo;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = (array[base + half - 1] <= key) ? base + half : base;
+            n -= half;
+        }
+        return base + (array[base] <= key ? 1 : 0);
+    }
+
+    // Index of the first element equal to key, or -1 if there is none
+    public static int search(int[] array, int key) {
+        return search(array, 0, array.length, key);
+    }
+
+    // Index of the first element equal to key in array[lo, hi), or -1 if there is none
+    public static int search(int[] array, int lo, int hi, int key) {
+        int i = lowerBound(array, lo, hi, key);
+        return (i < hi && array[i] == key) ? i : -1;
+    }
+}
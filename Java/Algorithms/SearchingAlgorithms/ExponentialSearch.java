@@ -0,0 +1,91 @@
+package org.dsahub;
+
+/*
+    EXPONENTIAL (GALLOPING) SEARCH
+    ------------------------------------------------------------------------------------
+    Finds a key in a sorted array by first galloping outwards from a starting position
+    in steps of 1, 2, 4, 8, ... until it has stepped past the key, and then binary
+    searching only the last step. The cost depends on the distance d between the
+    starting position and the answer, not on the length of the array:
+
+        O(log d) instead of O(log n)
+
+    This makes it the right tool when the answer is known to be near some position:
+    - Searching from the front when the key is probably small (hint = 0)
+    - Consecutive lookups of increasing keys, each starting where the last one ended
+    - Merging sorted runs (TimSort's "galloping mode" uses the same idea)
+    - Unbounded or very large arrays where the end is expensive to reach
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. Start at the hint. If array[hint] < key gallop to the right, otherwise to the left.
+
+    2. Double the step each time until the element at the probe is on the other side of
+       the key (or the probe falls off the end of the array).
+
+    3. The answer now lies between the last two probes: binary search that bracket
+       with BranchlessBinarySearch.
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(log d), d = distance from the hint to the answer
+    - Space Complexity: O(1)
+    - The array must be sorted in ascending order
+
+ */
+
+public class ExponentialSearch {
+
+    // Index of the first element >= key, galloping from the front of the array
+    public static int lowerBound(int[] array, int key) {
+        return lowerBound(array, key, 0);
+    }
+
+    // Index of the first element >= key (array.length if there is none), galloping
+    // from the given hint position
+    public static int lowerBound(int[] array, int key, int hint) {
+        int n = array.length;
+        if (n == 0) {
+            return 0;
+        }
+        if (hint < 0 || hint >= n) {
+            throw new IndexOutOfBoundsException("Hint " + hint + " out of bounds for length " + n);
+        }
+        int lo;                                         // Answer lies in [lo, hi]
+        int hi;
+        if (array[hint] < key) {                        // Gallop right
+            int step = 1;
+            lo = hint + 1;
+            hi = hint + step;
+            while (hi < n && array[hi] < key) {
+                lo = hi + 1;
+                step <<= 1;
+                hi = (n - hint > step) ? hint + step : n;
+            }
+            hi = Math.min(hi, n);
+        }
+        else {                                          // Gallop left
+            int step = 1;
+            hi = hint;
+            lo = hint - step;
+            while (lo >= 0 && array[lo] >= key) {
+                hi = lo;
+                step <<= 1;
+                lo = (hint >= step) ? hint - step : -1;
+            }
+            lo = Math.max(lo + 1, 0);
+        }
+        return BranchlessBinarySearch.lowerBound(array, lo, hi, key);
+    }
+
+    // Index of the first element equal to key, or -1, galloping from the front
+    public static int search(int[] array, int key) {
+        return search(array, key, 0);
+    }
+
+    // Index of the first element equal to key, or -1, galloping from the given hint
+    public static int search(int[] array, int key, int hint) {
+        int i = lowerBound(array, key, hint);
+        return (i < array.length && array[i] == key) ? i : -1;
+    }
+}
@@ -0,0 +1,111 @@
+package org.dsahub;
+
+/*
+    EYTZINGER LAYOUT SEARCH
+    ------------------------------------------------------------------------------------
+    Binary search on a sorted array jumps around memory: the first few probes of every
+    search (n/2, n/4, 3n/4, ...) are far apart, so on an array larger than the cache
+    nearly every probe is a cache miss.
+
+    The Eytzinger layout stores the same keys in the order of a breadth-first walk of
+    the implicit binary search tree (the same layout a binary heap uses):
+
+        tree[1] = root, children of tree[k] at tree[2k] and tree[2k + 1]
+
+    The top levels of the tree now sit together at the front of the array and stay hot
+    in the cache. Further down, the 16 descendants four levels below node k occupy
+    tree[16k .. 16k + 15], a single 64-byte cache line, so the hardware prefetcher can
+    bring them in while the current level is still being compared. The search loop
+    itself is branch-free:
+
+        k = 2 * k + (tree[k] < key ? 1 : 0)
+
+    After walking off the bottom of the tree, the answer (the lower bound) is the last
+    node where the walk went left, recovered from k by stripping its trailing 1 bits.
+
+    Since the keys are stored in a different order, EytzingerSearch keeps a mapping from
+    tree positions back to indexes of the original sorted array, so results are reported
+    in terms of the sorted array.
+
+    OPERATIONS:
+    ------------------------------------------------------------------------------------
+    - EytzingerSearch(sorted): Builds the layout from a sorted array (O(n))
+    - lowerBound(key): Index (into the sorted array) of the first element >= key
+    - search(key): Index of the first element equal to key, or -1
+    - size(): Number of keys
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(log n) per search, with far fewer cache misses than binary search
+    - Space Complexity: O(n) - the layout plus the index mapping
+    - The input array must be sorted in ascending order; later changes to it are not seen
+
+ */
+
+public class EytzingerSearch {
+
+    public static final int MAX_SIZE = 1 << 30;         // Keeps the descent index 2k + 1 in int range
+
+
+    // INSTANCE VARIABLES
+
+    private final int[] tree;               // Keys in BFS order, 1-based (tree[0] unused)
+    private final int[] index;              // index[k]: position of tree[k] in the sorted array
+    private final int size;                 // Number of keys
+
+
+    // CONSTRUCTORS
+
+    public EytzingerSearch(int[] sorted) {
+        if (sorted.length >= MAX_SIZE) {
+            throw new IllegalArgumentException("Too many keys for an Eytzinger layout");
+        }
+        size = sorted.length;
+        tree = new int[size + 1];
+        index = new int[size + 1];
+        build(sorted, 0, 1);
+    }
+
+
+    // ACCESS METHODS
+
+    public int size() {
+        return size;
+    }
+
+    // Index (into the sorted array) of the first element >= key, or size() if none
+    public int lowerBound(int key) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);        // Branch-free descent
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;   // Undo the right turns after the last left turn
+        return (k == 0) ? size : index[k];
+    }
+
+    // Index of the first element equal to key, or -1 if there is none
+    public int search(int key) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return (k != 0 && tree[k] == key) ? index[k] : -1;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Fills the subtree rooted at k by an in-order walk; i is the next sorted position.
+    // Returns the next sorted position after the subtree. Recursion depth is log2(n)
+    private int build(int[] sorted, int i, int k) {
+        if (k <= size) {
+            i = build(sorted, i, 2 * k);                // Left subtree: smaller keys
+            tree[k] = sorted[i];
+            index[k] = i;
+            i++;
+            i = build(sorted, i, 2 * k + 1);            // Right subtree: larger keys
+        }
+        return i;
+    }
+}
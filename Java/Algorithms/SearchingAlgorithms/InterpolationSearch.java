@@ -0,0 +1,72 @@
+package org.dsahub;
+
+/*
+    INTERPOLATION SEARCH
+    ------------------------------------------------------------------------------------
+    Binary search always probes the middle of the range. Interpolation search instead
+    guesses where the key should be, the way you would open a phone book near the back
+    to look for "Williams":
+
+        probe = lo + (key - array[lo]) * (hi - lo) / (array[hi] - array[lo])
+
+    When the keys are spread roughly uniformly (ids, hashes, evenly spaced timestamps)
+    each guess lands very close to the answer and the search needs only O(log log n)
+    probes - about 5 for a billion elements.
+
+    On skewed data the guesses can be poor and the search degrades towards O(n). To
+    keep the worst case bounded, this version counts its probes and, if the range has
+    not shrunk fast enough after a few of them, finishes with a binary search.
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. If the key is outside [array[lo], array[hi]] it is not in the range.
+
+    2. Estimate the position of the key by linear interpolation between the ends.
+
+    3. Compare the element at the estimate with the key and keep the side that can
+       still contain it.
+
+    4. Repeat until found, or until the probe budget runs out, in which case the
+       remaining range is handed to BranchlessBinarySearch.
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(log log n) on uniformly distributed keys,
+                        O(log n) worst case (thanks to the binary search fallback)
+    - Space Complexity: O(1)
+    - The array must be sorted in ascending order
+
+ */
+
+public class InterpolationSearch {
+
+    public static final int PROBE_BUDGET = 8;           // Probes before falling back to binary search
+
+
+    // Index of an element equal to key, or -1 if there is none
+    public static int search(int[] array, int key) {
+        int lo = 0;
+        int hi = array.length - 1;
+        int probes = 0;
+        while (lo <= hi && key >= array[lo] && key <= array[hi]) {
+            if (array[hi] == array[lo]) {
+                return lo;                              // All equal, and key is in [lo, hi]
+            }
+            if (++probes > PROBE_BUDGET) {
+                return BranchlessBinarySearch.search(array, lo, hi + 1, key);
+            }
+            long offset = ((long) key - array[lo]) * (hi - lo) / ((long) array[hi] - array[lo]);
+            int probe = lo + (int) offset;              // Guess by linear interpolation
+            if (array[probe] == key) {
+                return probe;
+            }
+            else if (array[probe] < key) {
+                lo = probe + 1;
+            }
+            else {
+                hi = probe - 1;
+            }
+        }
+        return -1;                                      // Key outside the remaining range
+    }
+}
@@ -0,0 +1,227 @@
+package org.dsahub;
+
+import java.util.Arrays;
+
+/*
+    PGM INDEX (PIECEWISE LINEAR LEARNED INDEX)
+    ------------------------------------------------------------------------------------
+    A "learned" index over a sorted array: instead of a tree, it stores a handful of
+    straight lines that predict where a key sits in the array. Each line (segment)
+    covers a run of consecutive keys and is guaranteed to predict the position of every
+    key it covers to within +-epsilon. A lookup then only has to:
+
+    1. Find the segment covering the key (binary search over the first keys of the
+       segments - far fewer than the keys themselves).
+
+    2. Predict the position: pos = start + slope * (key - firstKey).
+
+    3. Binary search the small window [pos - epsilon, pos + epsilon] of the array.
+
+    On real-world data (timestamps, ids, anything smooth) a few thousand segments can
+    cover millions of keys, so the whole index fits in cache while a B-tree over the same
+    data would not.
+
+    Building the segments (one pass, "shrinking cone"): a segment starts at its first key.
+    Every further key narrows the range of slopes that keep all keys so far within
+    epsilon of the line. When a key would make that range empty, the segment is closed
+    (with the middle slope of the range) and a new one starts at that key. Only the first
+    occurrence of each distinct key is fitted, so lookups return the first equal key.
+
+    Window validation: floating-point rounding (or long keys beyond double precision) can
+    in rare cases push a key just outside its predicted window. Two extra loads check
+    that the window really brackets the key; if not, the lookup falls back to a
+    BinarySearch of the whole array, so results are always exact.
+
+    OPERATIONS:
+    ------------------------------------------------------------------------------------
+    - PgmIndex(sorted[, epsilon]): Builds the index over a sorted int[] or long[]. The
+      array is not copied and must not be modified afterwards
+    - search(key): Index of the first element equal to key, or -1
+    - segments(): Number of line segments
+    - memoryFootprint(): Approximate bytes used by the index on top of the data
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Build:  O(n)
+    - Search: O(log s + log epsilon) for s segments
+    - Space Complexity: O(s), usually s << n
+
+ */
+
+public class PgmIndex {
+
+    public static final int DEFAULT_EPSILON = 64;
+
+
+    // INSTANCE VARIABLES
+
+    private final int[] intKeys;            // The indexed array (exactly one of the two is set)
+    private final long[] longKeys;
+    private final int size;
+    private final int epsilon;              // Maximum prediction error, in positions
+
+    private final long[] firstKey;          // Per segment: first key covered
+    private final int[] start;              // Per segment: position of that key
+    private final double[] slope;           // Per segment: positions per unit of key
+    private final int segments;
+
+
+    // CONSTRUCTORS
+
+    public PgmIndex(int[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    public PgmIndex(int[] sorted, int epsilon) {
+        this(sorted, null, sorted.length, epsilon);
+    }
+
+    public PgmIndex(long[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    public PgmIndex(long[] sorted, int epsilon) {
+        this(null, sorted, sorted.length, epsilon);
+    }
+
+    private PgmIndex(int[] intKeys, long[] longKeys, int size, int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("Epsilon must be at least 1");
+        }
+        this.intKeys = intKeys;
+        this.longKeys = longKeys;
+        this.size = size;
+        this.epsilon = epsilon;
+
+        long[] segKey = new long[16];                   // Segments found so far (grown by doubling)
+        int[] segStart = new int[16];
+        double[] segSlope = new double[16];
+        int s = 0;
+
+        long k0 = 0;                                    // First point of the open segment
+        int p0 = 0;
+        double minSlope = 0;                            // Cone of slopes still valid
+        double maxSlope = Double.POSITIVE_INFINITY;
+        for (int i = 0; i <= size; i++) {               // i == size closes the last segment
+            long k = (i < size) ? keyAt(i) : 0;
+            if (i > 0 && i < size && k == keyAt(i - 1)) {
+                continue;                               // Only fit first occurrences
+            }
+            if (i == 0) {
+                k0 = k;
+                continue;
+            }
+            if (i < size) {
+                double dk = (double) k - (double) k0;
+                double lo = Math.max(minSlope, (i - epsilon - p0) / dk);
+                double hi = Math.min(maxSlope, (i + epsilon - p0) / dk);
+                if (lo <= hi) {
+                    minSlope = lo;                      // Key fits: narrow the cone
+                    maxSlope = hi;
+                    continue;
+                }
+            }
+            if (s == segKey.length) {
+                segKey = Arrays.copyOf(segKey, 2 * s);
+                segStart = Arrays.copyOf(segStart, 2 * s);
+                segSlope = Arrays.copyOf(segSlope, 2 * s);
+            }
+            segKey[s] = k0;                             // Close the segment, start a new one here
+            segStart[s] = p0;
+            segSlope[s] = (maxSlope == Double.POSITIVE_INFINITY) ? minSlope : (minSlope + maxSlope) / 2;
+            s++;
+            k0 = k;
+            p0 = i;
+            minSlope = 0;
+            maxSlope = Double.POSITIVE_INFINITY;
+        }
+
+        segments = s;
+        firstKey = Arrays.copyOf(segKey, s);
+        start = Arrays.copyOf(segStart, s);
+        slope = Arrays.copyOf(segSlope, s);
+    }
+
+
+    // ACCESS METHODS
+
+    public int size() {
+        return size;
+    }
+
+    public int epsilon() {
+        return epsilon;
+    }
+
+    public int segments() {
+        return segments;
+    }
+
+    // Index of the first element equal to key, or -1 if there is none
+    public int search(long key) {
+        if (size == 0 || key < firstKey[0] || (intKeys != null && key > Integer.MAX_VALUE)) {
+            return -1;
+        }
+        int seg = segmentFor(key);
+        double predicted = start[seg] + slope[seg] * ((double) key - (double) firstKey[seg]);
+        int pos = (int) Math.max(0, Math.min(size - 1, predicted));
+        int lo = Math.max(0, pos - epsilon - 1);
+        int hi = Math.min(size, pos + epsilon + 2);
+
+        if (!brackets(lo, hi, key)) {
+            lo = 0;                                     // Prediction was off: search everything
+            hi = size;
+        }
+        int i = (intKeys != null)
+                ? BinarySearch.binarySearch(intKeys, lo, hi, (int) key)
+                : BinarySearch.binarySearch(longKeys, lo, hi, key);
+        return (i < 0) ? -1 : lowerBound(lo, i, key);  // Step back to the first equal key
+    }
+
+    // Approximate number of bytes used by the index itself (not the indexed array)
+    public long memoryFootprint() {
+        return 3 * 16 + (8L + 4L + 8L) * segments;      // firstKey, start and slope arrays
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    private long keyAt(int i) {
+        return (intKeys != null) ? intKeys[i] : longKeys[i];
+    }
+
+    // True if the first element equal to key, if there is one, lies in [lo, hi)
+    private boolean brackets(int lo, int hi, long key) {
+        return (lo == 0 || keyAt(lo - 1) < key) && (hi == size || keyAt(hi - 1) >= key);
+    }
+
+    // Index of the last segment whose first key is <= key (key >= firstKey[0])
+    private int segmentFor(long key) {
+        int lo = 0;
+        int hi = segments - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (firstKey[mid] <= key) {
+                lo = mid;
+            }
+            else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    // Index of the first element >= key in [lo, hi), or hi
+    private int lowerBound(int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keyAt(mid) < key) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
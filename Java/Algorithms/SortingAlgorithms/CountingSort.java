@@ -0,0 +1,127 @@
+package org.dsahub;
+
+/*
+    COUNTING SORT
+    ------------------------------------------------------------------------------------
+    Non-comparison sort for keys drawn from a small range [min, max]. Instead of comparing
+    keys, it counts how many times each value occurs and then writes the values back out
+    in order. For primitive keys there is nothing else to carry along, so the counts alone
+    are enough to rebuild the sorted array.
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. Find the smallest and largest key (or use the range given by the caller).
+
+    2. Create a count array with one slot per value in the range.
+
+    3. For each key, increment count[key - min].
+
+    4. Walk the count array from left to right, writing each value (min + slot) back
+       into the array as many times as it was counted.
+
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(n + k), k = max - min + 1
+    - Space Complexity: O(k)
+    - Only worth it when k is small compared to n (e.g. ages, ratings, small enums);
+      for wide keys use RadixSort instead
+    - Ranges wider than MAX_RANGE are rejected with an IllegalArgumentException
+
+*/
+
+public class CountingSort {
+
+    public static final int MAX_RANGE = 1 << 24;        // Largest allowed k (64 MB of counts)
+
+
+    // INT ARRAYS
+
+    // Sorts the given array, taking the key range from the data
+    public static void countingSort(int[] arr) {
+        if (arr.length < 2) {
+            return;
+        }
+        int min = arr[0];
+        int max = arr[0];
+        for (int key : arr) {
+            if (key < min) {
+                min = key;
+            }
+            else if (key > max) {
+                max = key;
+            }
+        }
+        countingSort(arr, min, max);
+    }
+
+    // Sorts the given array, whose keys must all lie in [min, max]
+    public static void countingSort(int[] arr, int min, int max) {
+        int[] count = new int[range(min, max)];
+        for (int key : arr) {
+            if (key < min || key > max) {
+                throw new IllegalArgumentException("Key " + key + " outside [" + min + ", " + max + "]");
+            }
+            count[key - min]++;
+        }
+        int i = 0;
+        for (int slot = 0; slot < count.length; slot++) {
+            for (int c = count[slot]; c > 0; c--) {
+                arr[i++] = min + slot;
+            }
+        }
+    }
+
+
+    // LONG ARRAYS
+
+    // Sorts the given array, taking the key range from the data
+    public static void countingSort(long[] arr) {
+        if (arr.length < 2) {
+            return;
+        }
+        long min = arr[0];
+        long max = arr[0];
+        for (long key : arr) {
+            if (key < min) {
+                min = key;
+            }
+            else if (key > max) {
+                max = key;
+            }
+        }
+        countingSort(arr, min, max);
+    }
+
+    // Sorts the given array, whose keys must all lie in [min, max]
+    public static void countingSort(long[] arr, long min, long max) {
+        int[] count = new int[range(min, max)];
+        for (long key : arr) {
+            if (key < min || key > max) {
+                throw new IllegalArgumentException("Key " + key + " outside [" + min + ", " + max + "]");
+            }
+            count[(int) (key - min)]++;
+        }
+        int i = 0;
+        for (int slot = 0; slot < count.length; slot++) {
+            for (int c = count[slot]; c > 0; c--) {
+                arr[i++] = min + slot;
+            }
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Returns max - min + 1, checking the range is non-empty and at most MAX_RANGE
+    private static int range(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min must not exceed max");
+        }
+        long k = max - min + 1;
+        if (k <= 0 || k > MAX_RANGE) {                  // k <= 0: max - min overflowed
+            throw new IllegalArgumentException("Key range too large for counting sort: use RadixSort");
+        }
+        return (int) k;
+    }
+}
@@ -1,5 +1,7 @@
 package org.dsahub;
 
+import java.util.Comparator;
+
 /*
     INSERTION SORT ALGORITHM
     ------------------------------------------------------------------------------------
@@ -41,6 +43,15 @@ package org.dsahub;
     - Performs well on small input sizes or partially sorted arrays
     - Insertion Sort is an "in-place" sorting algorithm - it operates directly on the input
       array without requiring additional memory
+    - Insertion Sort is stable - equal elements keep their relative order
+
+
+    VARIANTS:
+    ------------------------------------------------------------------------------------
+    - insertionSort(int[] arr): Sorts the whole array
+    - insertionSort(arr, lo, hi): Sorts only arr[lo, hi), for int[], long[], double[] and
+      T[] with a Comparator. The faster algorithms (IntroSort, MergeSort) hand their small
+      partitions to these.
 
 */
 
@@ -62,4 +73,56 @@ public class InsertionSort {
             arr[j] = key;                               // Insert current element at its correct position
         }
     }
+
+    // Insertion-sort of arr[lo, hi) into ascending order; stable
+    public static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = arr[i];
+            int j = i;
+            while (j > lo && key < arr[j - 1]) {
+                arr[j] = arr[j - 1];                    // Slide arr[j - 1] to the right
+                j--;
+            }
+            arr[j] = key;
+        }
+    }
+
+    // Insertion-sort of arr[lo, hi) into ascending order; stable
+    public static void insertionSort(long[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long key = arr[i];
+            int j = i;
+            while (j > lo && key < arr[j - 1]) {
+                arr[j] = arr[j - 1];                    // Slide arr[j - 1] to the right
+                j--;
+            }
+            arr[j] = key;
+        }
+    }
+
+    // Insertion-sort of arr[lo, hi) into ascending order; stable
+    public static void insertionSort(double[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            double key = arr[i];
+            int j = i;
+            while (j > lo && Double.compare(key, arr[j - 1]) < 0) {
+                arr[j] = arr[j - 1];                    // Slide arr[j - 1] to the right
+                j--;
+            }
+            arr[j] = key;
+        }
+    }
+
+    // Insertion-sort of arr[lo, hi) into ascending order (ordered by c); stable
+    public static <T> void insertionSort(T[] arr, int lo, int hi, Comparator<? super T> c) {
+        for (int i = lo + 1; i < hi; i++) {
+            T key = arr[i];
+            int j = i;
+            while (j > lo && c.compare(key, arr[j - 1]) < 0) {
+                arr[j] = arr[j - 1];                    // Slide arr[j - 1] to the right
+                j--;
+            }
+            arr[j] = key;
+        }
+    }
 }
@@ -0,0 +1,446 @@
+package org.dsahub;
+
+import java.util.Comparator;
+
+/*
+    INTROSORT (DUAL-PIVOT QUICKSORT)
+    ------------------------------------------------------------------------------------
+    Introspective sort: a quicksort that watches its own recursion depth. Partitioning
+    uses two pivots, splitting each range into three parts (< p, between p and q, > q),
+    which does fewer comparisons and memory passes than classic single-pivot quicksort.
+    Two safeguards cover quicksort's weak spots:
+    - Small partitions (up to INSERTION_THRESHOLD elements) are finished with
+      InsertionSort, which is faster than partitioning on tiny ranges.
+    - If the recursion gets deeper than ~2 log2(n) levels (repeatedly bad pivots), the
+      remaining range is heap sorted, so the worst case stays O(n log n).
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. If the range is small, insertion sort it and stop.
+
+    2. If the depth budget is used up, heap sort the range and stop.
+
+    3. Pick two pivots p <= q (taken from 1/3 and 2/3 of the way into the range).
+
+    4. Partition the range into: elements < p | p <= elements <= q | elements > q.
+
+    5. Recursively sort the outer parts. If p == q the middle part is all equal and
+       already sorted; otherwise repeat from step 1 on the middle part.
+
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(n log n) average and worst case
+    - Space Complexity: O(log n) for the recursion
+    - In-place but not stable (equal elements may be reordered)
+    - double[] is ordered like Double.compare: -0.0 before 0.0, NaN last
+
+*/
+
+public class IntroSort {
+
+    public static final int INSERTION_THRESHOLD = 32;   // Ranges this small use InsertionSort
+
+
+    // INT ARRAYS
+
+    // Sorts the given array into ascending order
+    public static void introSort(int[] arr) {
+        introSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order
+    public static void introSort(int[] arr, int lo, int hi) {
+        checkRange(arr.length, lo, hi);
+        sort(arr, lo, hi, depthLimit(hi - lo));
+    }
+
+    // Dual-pivot quicksort of arr[lo, hi), switching to heap sort once depth runs out
+    private static void sort(int[] arr, int lo, int hi, int depth) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi);                  // Too many bad pivots: guarantee O(n log n)
+                return;
+            }
+            int third = (hi - lo) / 3;
+            swap(arr, lo, lo + third);                  // Pivot candidates from 1/3 and 2/3 in
+            swap(arr, hi - 1, hi - 1 - third);
+            if (arr[hi - 1] < arr[lo]) {
+                swap(arr, lo, hi - 1);
+            }
+            int p = arr[lo];                            // Smaller pivot
+            int q = arr[hi - 1];                        // Larger pivot
+
+            int lt = lo + 1;                            // arr[lo + 1, lt) < p
+            int gt = hi - 2;                            // arr(gt, hi - 1) > q
+            for (int k = lt; k <= gt; k++) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                }
+                else if (q < arr[k]) {
+                    while (k < gt && q < arr[gt]) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+            }
+            swap(arr, lo, --lt);                        // Move pivots to their final positions
+            swap(arr, hi - 1, ++gt);
+
+            sort(arr, lo, lt, depth);                   // Elements < p
+            sort(arr, gt + 1, hi, depth);               // Elements > q
+            if (!(p < q)) {
+                return;                                 // p == q: the middle part is all equal
+            }
+            lo = lt + 1;                                // Loop on the middle part, p <= x <= q
+            hi = gt;
+        }
+        InsertionSort.insertionSort(arr, lo, hi);
+    }
+
+    // Heap-sort of arr[lo, hi)
+    private static void heapSort(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, lo, i, n);                    // Build a max-heap
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, lo, lo + end);                    // Move the maximum behind the heap
+            siftDown(arr, lo, 0, end);
+        }
+    }
+
+    // Restores the max-heap property below heap index i of the heap arr[lo, lo + n)
+    private static void siftDown(int[] arr, int lo, int i, int n) {
+        int x = arr[lo + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[lo + child] < arr[lo + child + 1]) {
+                child++;                                // Larger of the two children
+            }
+            if (!(x < arr[lo + child])) {
+                break;
+            }
+            arr[lo + i] = arr[lo + child];
+            i = child;
+        }
+        arr[lo + i] = x;
+    }
+
+    // LONG ARRAYS
+
+    // Sorts the given array into ascending order
+    public static void introSort(long[] arr) {
+        introSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order
+    public static void introSort(long[] arr, int lo, int hi) {
+        checkRange(arr.length, lo, hi);
+        sort(arr, lo, hi, depthLimit(hi - lo));
+    }
+
+    // Dual-pivot quicksort of arr[lo, hi), switching to heap sort once depth runs out
+    private static void sort(long[] arr, int lo, int hi, int depth) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi);                  // Too many bad pivots: guarantee O(n log n)
+                return;
+            }
+            int third = (hi - lo) / 3;
+            swap(arr, lo, lo + third);                  // Pivot candidates from 1/3 and 2/3 in
+            swap(arr, hi - 1, hi - 1 - third);
+            if (arr[hi - 1] < arr[lo]) {
+                swap(arr, lo, hi - 1);
+            }
+            long p = arr[lo];                           // Smaller pivot
+            long q = arr[hi - 1];                       // Larger pivot
+
+            int lt = lo + 1;                            // arr[lo + 1, lt) < p
+            int gt = hi - 2;                            // arr(gt, hi - 1) > q
+            for (int k = lt; k <= gt; k++) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                }
+                else if (q < arr[k]) {
+                    while (k < gt && q < arr[gt]) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+            }
+            swap(arr, lo, --lt);                        // Move pivots to their final positions
+            swap(arr, hi - 1, ++gt);
+
+            sort(arr, lo, lt, depth);                   // Elements < p
+            sort(arr, gt + 1, hi, depth);               // Elements > q
+            if (!(p < q)) {
+                return;                                 // p == q: the middle part is all equal
+            }
+            lo = lt + 1;                                // Loop on the middle part, p <= x <= q
+            hi = gt;
+        }
+        InsertionSort.insertionSort(arr, lo, hi);
+    }
+
+    // Heap-sort of arr[lo, hi)
+    private static void heapSort(long[] arr, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, lo, i, n);                    // Build a max-heap
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, lo, lo + end);                    // Move the maximum behind the heap
+            siftDown(arr, lo, 0, end);
+        }
+    }
+
+    // Restores the max-heap property below heap index i of the heap arr[lo, lo + n)
+    private static void siftDown(long[] arr, int lo, int i, int n) {
+        long x = arr[lo + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[lo + child] < arr[lo + child + 1]) {
+                child++;                                // Larger of the two children
+            }
+            if (!(x < arr[lo + child])) {
+                break;
+            }
+            arr[lo + i] = arr[lo + child];
+            i = child;
+        }
+        arr[lo + i] = x;
+    }
+
+    // DOUBLE ARRAYS
+
+    // Sorts the given array into ascending order
+    public static void introSort(double[] arr) {
+        introSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order
+    public static void introSort(double[] arr, int lo, int hi) {
+        checkRange(arr.length, lo, hi);
+        sort(arr, lo, hi, depthLimit(hi - lo));
+    }
+
+    // Dual-pivot quicksort of arr[lo, hi), switching to heap sort once depth runs out
+    private static void sort(double[] arr, int lo, int hi, int depth) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi);                  // Too many bad pivots: guarantee O(n log n)
+                return;
+            }
+            int third = (hi - lo) / 3;
+            swap(arr, lo, lo + third);                  // Pivot candidates from 1/3 and 2/3 in
+            swap(arr, hi - 1, hi - 1 - third);
+            if (Double.compare(arr[hi - 1], arr[lo]) < 0) {
+                swap(arr, lo, hi - 1);
+            }
+            double p = arr[lo];                         // Smaller pivot
+            double q = arr[hi - 1];                     // Larger pivot
+
+            int lt = lo + 1;                            // arr[lo + 1, lt) < p
+            int gt = hi - 2;                            // arr(gt, hi - 1) > q
+            for (int k = lt; k <= gt; k++) {
+                if (Double.compare(arr[k], p) < 0) {
+                    swap(arr, k, lt++);
+                }
+                else if (Double.compare(q, arr[k]) < 0) {
+                    while (k < gt && Double.compare(q, arr[gt]) < 0) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (Double.compare(arr[k], p) < 0) {
+                        swap(arr, k, lt++);
+                    }
+                }
+            }
+            swap(arr, lo, --lt);                        // Move pivots to their final positions
+            swap(arr, hi - 1, ++gt);
+
+            sort(arr, lo, lt, depth);                   // Elements < p
+            sort(arr, gt + 1, hi, depth);               // Elements > q
+            if (!(Double.compare(p, q) < 0)) {
+                return;                                 // p == q: the middle part is all equal
+            }
+            lo = lt + 1;                                // Loop on the middle part, p <= x <= q
+            hi = gt;
+        }
+        InsertionSort.insertionSort(arr, lo, hi);
+    }
+
+    // Heap-sort of arr[lo, hi)
+    private static void heapSort(double[] arr, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, lo, i, n);                    // Build a max-heap
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, lo, lo + end);                    // Move the maximum behind the heap
+            siftDown(arr, lo, 0, end);
+        }
+    }
+
+    // Restores the max-heap property below heap index i of the heap arr[lo, lo + n)
+    private static void siftDown(double[] arr, int lo, int i, int n) {
+        double x = arr[lo + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && Double.compare(arr[lo + child], arr[lo + child + 1]) < 0) {
+                child++;                                // Larger of the two children
+            }
+            if (!(Double.compare(x, arr[lo + child]) < 0)) {
+                break;
+            }
+            arr[lo + i] = arr[lo + child];
+            i = child;
+        }
+        arr[lo + i] = x;
+    }
+
+    // GENERIC ARRAYS
+
+    // Sorts the given array into ascending order (ordered by c)
+    public static <T> void introSort(T[] arr, Comparator<? super T> c) {
+        introSort(arr, 0, arr.length, c);
+    }
+
+    // Sorts arr[lo, hi) into ascending order (ordered by c)
+    public static <T> void introSort(T[] arr, int lo, int hi, Comparator<? super T> c) {
+        checkRange(arr.length, lo, hi);
+        sort(arr, lo, hi, depthLimit(hi - lo), c);
+    }
+
+    // Dual-pivot quicksort of arr[lo, hi), switching to heap sort once depth runs out
+    private static <T> void sort(T[] arr, int lo, int hi, int depth, Comparator<? super T> c) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi, c);               // Too many bad pivots: guarantee O(n log n)
+                return;
+            }
+            int third = (hi - lo) / 3;
+            swap(arr, lo, lo + third);                  // Pivot candidates from 1/3 and 2/3 in
+            swap(arr, hi - 1, hi - 1 - third);
+            if (c.compare(arr[hi - 1], arr[lo]) < 0) {
+                swap(arr, lo, hi - 1);
+            }
+            T p = arr[lo];                              // Smaller pivot
+            T q = arr[hi - 1];                          // Larger pivot
+
+            int lt = lo + 1;                            // arr[lo + 1, lt) < p
+            int gt = hi - 2;                            // arr(gt, hi - 1) > q
+            for (int k = lt; k <= gt; k++) {
+                if (c.compare(arr[k], p) < 0) {
+                    swap(arr, k, lt++);
+                }
+                else if (c.compare(q, arr[k]) < 0) {
+                    while (k < gt && c.compare(q, arr[gt]) < 0) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (c.compare(arr[k], p) < 0) {
+                        swap(arr, k, lt++);
+                    }
+                }
+            }
+            swap(arr, lo, --lt);                        // Move pivots to their final positions
+            swap(arr, hi - 1, ++gt);
+
+            sort(arr, lo, lt, depth, c);                // Elements < p
+            sort(arr, gt + 1, hi, depth, c);            // Elements > q
+            if (!(c.compare(p, q) < 0)) {
+                return;                                 // p == q: the middle part is all equal
+            }
+            lo = lt + 1;                                // Loop on the middle part, p <= x <= q
+            hi = gt;
+        }
+        InsertionSort.insertionSort(arr, lo, hi, c);
+    }
+
+    // Heap-sort of arr[lo, hi)
+    private static <T> void heapSort(T[] arr, int lo, int hi, Comparator<? super T> c) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, lo, i, n, c);                 // Build a max-heap
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, lo, lo + end);                    // Move the maximum behind the heap
+            siftDown(arr, lo, 0, end, c);
+        }
+    }
+
+    // Restores the max-heap property below heap index i of the heap arr[lo, lo + n)
+    private static <T> void siftDown(T[] arr, int lo, int i, int n, Comparator<? super T> c) {
+        T x = arr[lo + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && c.compare(arr[lo + child], arr[lo + child + 1]) < 0) {
+                child++;                                // Larger of the two children
+            }
+            if (!(c.compare(x, arr[lo + child]) < 0)) {
+                break;
+            }
+            arr[lo + i] = arr[lo + child];
+            i = child;
+        }
+        arr[lo + i] = x;
+    }
+
+    // PRIVATE UTILITY METHODS
+
+    // Checks that [lo, hi) is a valid range of an array with the given length
+    static void checkRange(int length, int lo, int hi) {
+        if (lo < 0 || hi > length || lo > hi) {
+            throw new IndexOutOfBoundsException("Range [" + lo + ", " + hi + ") out of bounds for length " + length);
+        }
+    }
+
+    // Returns the depth budget, 2 * floor(log2(n)), for a range of n elements
+    private static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static void swap(double[] arr, int i, int j) {
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static void swap(Object[] arr, int i, int j) {
+        Object temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
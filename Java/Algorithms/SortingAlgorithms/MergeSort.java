@@ -0,0 +1,448 @@
+package org.dsahub;
+
+import java.util.Comparator;
+
+/*
+    MERGE SORT (TIMSORT-STYLE)
+    ------------------------------------------------------------------------------------
+    A stable, adaptive merge sort in the style of TimSort. Instead of always splitting the
+    array in half, it looks for runs that are already sorted and merges those, so nearly
+    sorted input costs close to O(n).
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. Scan the array from left to right, finding the next run: a non-descending stretch,
+       or a strictly descending stretch (which is reversed in place).
+
+    2. If the run is shorter than minRun (16 to 32, chosen so the number of runs is close
+       to a power of two), extend it with InsertionSort.
+
+    3. Push the run on a stack of pending runs, then merge the top runs while the stack
+       breaks the rules len[i - 2] > len[i - 1] + len[i] and len[i - 1] > len[i]. This
+       keeps merges balanced and the stack O(log n) deep.
+
+    4. When the whole array has been scanned, merge the remaining runs.
+
+    5. To merge two adjacent runs, copy the left run to a work array and merge forward.
+       Runs that are already in order (last of left <= first of right) are skipped.
+
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(n log n) worst case, O(n) on already sorted or reversed input
+    - Space Complexity: O(n) work array, sized to the range being sorted
+    - Stable - equal elements keep their relative order
+    - double[] is ordered like Double.compare: -0.0 before 0.0, NaN last
+
+*/
+
+public class MergeSort {
+
+    public static final int MIN_MERGE = 32;             // Shorter arrays use InsertionSort only
+
+
+    //-------------- NESTED RUN STACK CLASS ---------------
+    // Stack of pending sorted runs, deciding which adjacent pair to merge next
+    private static final class RunStack {
+
+        private final int[] base = new int[49];     // Start index of each run
+        private final int[] length = new int[49];   // Length of each run
+        private int size = 0;                       // Number of pending runs
+
+        void push(int runBase, int runLength) {
+            base[size] = runBase;
+            length[size] = runLength;
+            size++;
+        }
+
+        // Returns the index r of the pair (r, r + 1) to merge next, or -1 if the stack
+        // satisfies the invariants (force: merge everything down to one run)
+        int nextMerge(boolean force) {
+            if (size < 2) {
+                return -1;
+            }
+            int n = size - 2;
+            if (force) {
+                return (n > 0 && length[n - 1] < length[n + 1]) ? n - 1 : n;
+            }
+            if ((n > 0 && length[n - 1] <= length[n] + length[n + 1])
+                    || (n > 1 && length[n - 2] <= length[n - 1] + length[n])) {
+                return (length[n - 1] < length[n + 1]) ? n - 1 : n;
+            }
+            return (length[n] <= length[n + 1]) ? n : -1;
+        }
+
+        // Records that runs r and r + 1 were merged into one
+        void merged(int r) {
+            length[r] += length[r + 1];
+            if (r == size - 3) {
+                base[r + 1] = base[r + 2];          // Slide the top run down
+                length[r + 1] = length[r + 2];
+            }
+            size--;
+        }
+    }
+    //---------- END OF NESTED RUN STACK CLASS ------------
+
+
+    // INT ARRAYS
+
+    // Sorts the given array into ascending order; stable
+    public static void mergeSort(int[] arr) {
+        mergeSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order; stable
+    public static void mergeSort(int[] arr, int lo, int hi) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        if (hi - lo < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        sort(arr, lo, hi, new int[hi - lo], lo);
+    }
+
+    // Sorts arr[lo, hi) using work[lo - workBase, hi - workBase) as scratch space
+    static void sort(int[] arr, int lo, int hi, int[] work, int workBase) {
+        int n = hi - lo;
+        if (n < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        int minRun = minRunLength(n);
+        RunStack runs = new RunStack();
+        for (int i = lo; i < hi; ) {
+            int length = makeAscendingRun(arr, i, hi);
+            if (length < minRun) {                     // Extend short runs with insertion sort
+                length = Math.min(minRun, hi - i);
+                InsertionSort.insertionSort(arr, i, i + length);
+            }
+            runs.push(i, length);
+            i += length;
+            for (int r = runs.nextMerge(false); r >= 0; r = runs.nextMerge(false)) {
+                merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+                runs.merged(r);
+            }
+        }
+        for (int r = runs.nextMerge(true); r >= 0; r = runs.nextMerge(true)) {
+            merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+            runs.merged(r);
+        }
+    }
+
+    // Returns the length of the run starting at lo, reversing it first if strictly descending
+    private static int makeAscendingRun(int[] arr, int lo, int hi) {
+        int end = lo + 1;
+        if (end == hi) {
+            return 1;
+        }
+        if (arr[end] < arr[lo]) {                // Strictly descending (keeps stability)
+            while (end + 1 < hi && arr[end + 1] < arr[end]) {
+                end++;
+            }
+            for (int i = lo, j = end; i < j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        else {                                         // Non-descending
+            while (end + 1 < hi && !(arr[end + 1] < arr[end])) {
+                end++;
+            }
+        }
+        return end + 1 - lo;
+    }
+
+    // Merges the adjacent sorted runs arr[base, base + n1) and arr[base + n1, base + n1 + n2)
+    private static void merge(int[] arr, int[] work, int workBase, int base, int n1, int n2) {
+        int mid = base + n1;
+        if (!(arr[mid] < arr[mid - 1])) {
+            return;                                     // Runs are already in order
+        }
+        System.arraycopy(arr, base, work, base - workBase, n1);     // Left run moves out of the way
+        int i = base - workBase;                        // Next element of the left run (in work)
+        int left = i + n1;                              // End of the left run (in work)
+        int j = mid;                                    // Next element of the right run
+        int k = base;                                   // Next output position
+        int end = mid + n2;
+        while (i < left && j < end) {
+            arr[k++] = arr[j] < work[i] ? arr[j++] : work[i++];   // Ties take the left run
+        }
+        System.arraycopy(work, i, arr, k, left - i);    // Rest of the right run is already in place
+    }
+
+    // LONG ARRAYS
+
+    // Sorts the given array into ascending order; stable
+    public static void mergeSort(long[] arr) {
+        mergeSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order; stable
+    public static void mergeSort(long[] arr, int lo, int hi) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        if (hi - lo < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        sort(arr, lo, hi, new long[hi - lo], lo);
+    }
+
+    // Sorts arr[lo, hi) using work[lo - workBase, hi - workBase) as scratch space
+    static void sort(long[] arr, int lo, int hi, long[] work, int workBase) {
+        int n = hi - lo;
+        if (n < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        int minRun = minRunLength(n);
+        RunStack runs = new RunStack();
+        for (int i = lo; i < hi; ) {
+            int length = makeAscendingRun(arr, i, hi);
+            if (length < minRun) {                     // Extend short runs with insertion sort
+                length = Math.min(minRun, hi - i);
+                InsertionSort.insertionSort(arr, i, i + length);
+            }
+            runs.push(i, length);
+            i += length;
+            for (int r = runs.nextMerge(false); r >= 0; r = runs.nextMerge(false)) {
+                merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+                runs.merged(r);
+            }
+        }
+        for (int r = runs.nextMerge(true); r >= 0; r = runs.nextMerge(true)) {
+            merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+            runs.merged(r);
+        }
+    }
+
+    // Returns the length of the run starting at lo, reversing it first if strictly descending
+    private static int makeAscendingRun(long[] arr, int lo, int hi) {
+        int end = lo + 1;
+        if (end == hi) {
+            return 1;
+        }
+        if (arr[end] < arr[lo]) {                // Strictly descending (keeps stability)
+            while (end + 1 < hi && arr[end + 1] < arr[end]) {
+                end++;
+            }
+            for (int i = lo, j = end; i < j; i++, j--) {
+                long temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        else {                                         // Non-descending
+            while (end + 1 < hi && !(arr[end + 1] < arr[end])) {
+                end++;
+            }
+        }
+        return end + 1 - lo;
+    }
+
+    // Merges the adjacent sorted runs arr[base, base + n1) and arr[base + n1, base + n1 + n2)
+    private static void merge(long[] arr, long[] work, int workBase, int base, int n1, int n2) {
+        int mid = base + n1;
+        if (!(arr[mid] < arr[mid - 1])) {
+            return;                                     // Runs are already in order
+        }
+        System.arraycopy(arr, base, work, base - workBase, n1);     // Left run moves out of the way
+        int i = base - workBase;                        // Next element of the left run (in work)
+        int left = i + n1;                              // End of the left run (in work)
+        int j = mid;                                    // Next element of the right run
+        int k = base;                                   // Next output position
+        int end = mid + n2;
+        while (i < left && j < end) {
+            arr[k++] = arr[j] < work[i] ? arr[j++] : work[i++];   // Ties take the left run
+        }
+        System.arraycopy(work, i, arr, k, left - i);    // Rest of the right run is already in place
+    }
+
+    // DOUBLE ARRAYS
+
+    // Sorts the given array into ascending order; stable
+    public static void mergeSort(double[] arr) {
+        mergeSort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending order; stable
+    public static void mergeSort(double[] arr, int lo, int hi) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        if (hi - lo < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        sort(arr, lo, hi, new double[hi - lo], lo);
+    }
+
+    // Sorts arr[lo, hi) using work[lo - workBase, hi - workBase) as scratch space
+    static void sort(double[] arr, int lo, int hi, double[] work, int workBase) {
+        int n = hi - lo;
+        if (n < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        int minRun = minRunLength(n);
+        RunStack runs = new RunStack();
+        for (int i = lo; i < hi; ) {
+            int length = makeAscendingRun(arr, i, hi);
+            if (length < minRun) {                     // Extend short runs with insertion sort
+                length = Math.min(minRun, hi - i);
+                InsertionSort.insertionSort(arr, i, i + length);
+            }
+            runs.push(i, length);
+            i += length;
+            for (int r = runs.nextMerge(false); r >= 0; r = runs.nextMerge(false)) {
+                merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+                runs.merged(r);
+            }
+        }
+        for (int r = runs.nextMerge(true); r >= 0; r = runs.nextMerge(true)) {
+            merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1]);
+            runs.merged(r);
+        }
+    }
+
+    // Returns the length of the run starting at lo, reversing it first if strictly descending
+    private static int makeAscendingRun(double[] arr, int lo, int hi) {
+        int end = lo + 1;
+        if (end == hi) {
+            return 1;
+        }
+        if (Double.compare(arr[end], arr[lo]) < 0) {                // Strictly descending (keeps stability)
+            while (end + 1 < hi && Double.compare(arr[end + 1], arr[end]) < 0) {
+                end++;
+            }
+            for (int i = lo, j = end; i < j; i++, j--) {
+                double temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        else {                                         // Non-descending
+            while (end + 1 < hi && !(Double.compare(arr[end + 1], arr[end]) < 0)) {
+                end++;
+            }
+        }
+        return end + 1 - lo;
+    }
+
+    // Merges the adjacent sorted runs arr[base, base + n1) and arr[base + n1, base + n1 + n2)
+    private static void merge(double[] arr, double[] work, int workBase, int base, int n1, int n2) {
+        int mid = base + n1;
+        if (!(Double.compare(arr[mid], arr[mid - 1]) < 0)) {
+            return;                                     // Runs are already in order
+        }
+        System.arraycopy(arr, base, work, base - workBase, n1);     // Left run moves out of the way
+        int i = base - workBase;                        // Next element of the left run (in work)
+        int left = i + n1;                              // End of the left run (in work)
+        int j = mid;                                    // Next element of the right run
+        int k = base;                                   // Next output position
+        int end = mid + n2;
+        while (i < left && j < end) {
+            arr[k++] = Double.compare(arr[j], work[i]) < 0 ? arr[j++] : work[i++];   // Ties take the left run
+        }
+        System.arraycopy(work, i, arr, k, left - i);    // Rest of the right run is already in place
+    }
+
+    // GENERIC ARRAYS
+
+    // Sorts the given array into ascending order (ordered by c); stable
+    public static <T> void mergeSort(T[] arr, Comparator<? super T> c) {
+        mergeSort(arr, 0, arr.length, c);
+    }
+
+    // Sorts arr[lo, hi) into ascending order (ordered by c); stable
+    public static <T> void mergeSort(T[] arr, int lo, int hi, Comparator<? super T> c) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        if (hi - lo < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi, c);
+            return;
+        }
+        sort(arr, lo, hi, (T[]) new Object[hi - lo], lo, c);
+    }
+
+    // Sorts arr[lo, hi) using work[lo - workBase, hi - workBase) as scratch space
+    static <T> void sort(T[] arr, int lo, int hi, T[] work, int workBase, Comparator<? super T> c) {
+        int n = hi - lo;
+        if (n < MIN_MERGE) {
+            InsertionSort.insertionSort(arr, lo, hi, c);
+            return;
+        }
+        int minRun = minRunLength(n);
+        RunStack runs = new RunStack();
+        for (int i = lo; i < hi; ) {
+            int length = makeAscendingRun(arr, i, hi, c);
+            if (length < minRun) {                     // Extend short runs with insertion sort
+                length = Math.min(minRun, hi - i);
+                InsertionSort.insertionSort(arr, i, i + length, c);
+            }
+            runs.push(i, length);
+            i += length;
+            for (int r = runs.nextMerge(false); r >= 0; r = runs.nextMerge(false)) {
+                merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1], c);
+                runs.merged(r);
+            }
+        }
+        for (int r = runs.nextMerge(true); r >= 0; r = runs.nextMerge(true)) {
+            merge(arr, work, workBase, runs.base[r], runs.length[r], runs.length[r + 1], c);
+            runs.merged(r);
+        }
+    }
+
+    // Returns the length of the run starting at lo, reversing it first if strictly descending
+    private static <T> int makeAscendingRun(T[] arr, int lo, int hi, Comparator<? super T> c) {
+        int end = lo + 1;
+        if (end == hi) {
+            return 1;
+        }
+        if (c.compare(arr[end], arr[lo]) < 0) {                // Strictly descending (keeps stability)
+            while (end + 1 < hi && c.compare(arr[end + 1], arr[end]) < 0) {
+                end++;
+            }
+            for (int i = lo, j = end; i < j; i++, j--) {
+                T temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        else {                                         // Non-descending
+            while (end + 1 < hi && !(c.compare(arr[end + 1], arr[end]) < 0)) {
+                end++;
+            }
+        }
+        return end + 1 - lo;
+    }
+
+    // Merges the adjacent sorted runs arr[base, base + n1) and arr[base + n1, base + n1 + n2)
+    private static <T> void merge(T[] arr, T[] work, int workBase, int base, int n1, int n2, Comparator<? super T> c) {
+        int mid = base + n1;
+        if (!(c.compare(arr[mid], arr[mid - 1]) < 0)) {
+            return;                                     // Runs are already in order
+        }
+        System.arraycopy(arr, base, work, base - workBase, n1);     // Left run moves out of the way
+        int i = base - workBase;                        // Next element of the left run (in work)
+        int left = i + n1;                              // End of the left run (in work)
+        int j = mid;                                    // Next element of the right run
+        int k = base;                                   // Next output position
+        int end = mid + n2;
+        while (i < left && j < end) {
+            arr[k++] = c.compare(arr[j], work[i]) < 0 ? arr[j++] : work[i++];   // Ties take the left run
+        }
+        System.arraycopy(work, i, arr, k, left - i);    // Rest of the right run is already in place
+    }
+
+    // PRIVATE UTILITY METHODS
+
+    // Returns the minimum run length for an array of n elements: n itself if small, else a
+    // value in [16, 32] such that n / minRun is close to (but not above) a power of two
+    private static int minRunLength(int n) {
+        int r = 0;                                  // Becomes 1 if any bit shifted off is set
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+}
@@ -0,0 +1,526 @@
+package org.dsahub;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    PARALLEL MERGE SORT (FORK/JOIN)
+    ------------------------------------------------------------------------------------
+    A stable merge sort that spreads the work over all cores with a ForkJoinPool. Both
+    the sorting and the merging are split into independent tasks, so the final merges do
+    not become a single-threaded bottleneck.
+
+    STEP BY STEP:
+    ------------------------------------------------------------------------------------
+    1. If a range has at most THRESHOLD elements, sort it sequentially with MergeSort.
+
+    2. Otherwise split it in half and sort both halves in parallel. The halves are
+       sorted into a second (work) array, so merging them back needs no extra copy: each
+       level of the recursion alternates between the input array and the work array.
+
+    3. Merge the two halves in parallel: take the middle element of the larger half as a
+       pivot, binary search the pivot's position in the other half, and merge the two
+       "smaller than pivot" parts and the two "the rest" parts as separate tasks.
+       Ties always keep elements of the left half first, so the sort stays stable.
+
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Work:             O(n log n)
+    - Span:             O(log^3 n) (with the parallel merge), so it scales with cores
+    - Space Complexity: O(n) work array
+    - Stable - equal elements keep their relative order
+    - Falls back to sequential MergeSort for small arrays or a single-thread pool
+    - double[] is ordered like Double.compare: -0.0 before 0.0, NaN last
+
+*/
+
+public class ParallelMergeSort {
+
+    public static final int THRESHOLD = 1 << 13;        // Ranges this small are not split
+
+
+    // INT ARRAYS
+
+    // Sorts the given array into ascending order using the common ForkJoinPool; stable
+    public static void parallelMergeSort(int[] arr) {
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    // Sorts the given array into ascending order using the given pool; stable
+    public static void parallelMergeSort(int[] arr, ForkJoinPool pool) {
+        if (arr.length <= THRESHOLD || pool.getParallelism() == 1) {
+            MergeSort.mergeSort(arr);                 // Not worth splitting
+            return;
+        }
+        pool.invoke(new IntSorter(arr, new int[arr.length], 0, arr.length, false));
+    }
+
+    // LONG ARRAYS
+
+    // Sorts the given array into ascending order using the common ForkJoinPool; stable
+    public static void parallelMergeSort(long[] arr) {
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    // Sorts the given array into ascending order using the given pool; stable
+    public static void parallelMergeSort(long[] arr, ForkJoinPool pool) {
+        if (arr.length <= THRESHOLD || pool.getParallelism() == 1) {
+            MergeSort.mergeSort(arr);                 // Not worth splitting
+            return;
+        }
+        pool.invoke(new LongSorter(arr, new long[arr.length], 0, arr.length, false));
+    }
+
+    // DOUBLE ARRAYS
+
+    // Sorts the given array into ascending order using the common ForkJoinPool; stable
+    public static void parallelMergeSort(double[] arr) {
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    // Sorts the given array into ascending order using the given pool; stable
+    public static void parallelMergeSort(double[] arr, ForkJoinPool pool) {
+        if (arr.length <= THRESHOLD || pool.getParallelism() == 1) {
+            MergeSort.mergeSort(arr);                 // Not worth splitting
+            return;
+        }
+        pool.invoke(new DoubleSorter(arr, new double[arr.length], 0, arr.length, false));
+    }
+
+    // GENERIC ARRAYS
+
+    // Sorts the given array into ascending order (ordered by c) using the common ForkJoinPool; stable
+    public static <T> void parallelMergeSort(T[] arr, Comparator<? super T> c) {
+        parallelMergeSort(arr, ForkJoinPool.commonPool(), c);
+    }
+
+    // Sorts the given array into ascending order (ordered by c) using the given pool; stable
+    public static <T> void parallelMergeSort(T[] arr, ForkJoinPool pool, Comparator<? super T> c) {
+        if (arr.length <= THRESHOLD || pool.getParallelism() == 1) {
+            MergeSort.mergeSort(arr, c);                 // Not worth splitting
+            return;
+        }
+        pool.invoke(new GenericSorter<>(arr, (T[]) new Object[arr.length], 0, arr.length, false, c));
+    }
+
+
+    //-------------- NESTED INT TASK CLASSES ---------------
+    // Sorts a[lo, hi), leaving the result in w[lo, hi) if intoWork is set, else in a[lo, hi)
+    private static final class IntSorter extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a, w;
+        private final int lo, hi;
+        private final boolean intoWork;
+
+        IntSorter(int[] a, int[] w, int lo, int hi, boolean intoWork) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoWork = intoWork;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= THRESHOLD) {
+                MergeSort.sort(a, lo, hi, w, 0);     // w[lo, hi) is free to use as scratch
+                if (intoWork) {
+                    System.arraycopy(a, lo, w, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new IntSorter(a, w, lo, mid, !intoWork),      // Halves land in the
+                      new IntSorter(a, w, mid, hi, !intoWork));     // other array...
+            int[] src = intoWork ? a : w;
+            int[] dst = intoWork ? w : a;
+            new IntMerger(src, dst, lo, mid, mid, hi, lo).compute();  // ...and merge back
+        }
+    }
+
+    // Merges the sorted ranges src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    private static final class IntMerger extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out;
+
+        IntMerger(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int out) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= THRESHOLD) {
+                int i = lo1, j = lo2, k = out;
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[j] < src[i] ? src[j++] : src[i++];    // Ties take the left range
+                }
+                System.arraycopy(src, i, dst, k, hi1 - i);
+                System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+                return;
+            }
+            int m1, m2;                                 // Split both ranges around one pivot
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                int pivot = src[m1];
+                m2 = lo2;                               // First right element >= pivot
+                for (int hi = hi2; m2 < hi; ) {
+                    int mid = (m2 + hi) >>> 1;
+                    if (src[mid] < pivot) {
+                        m2 = mid + 1;
+                    }
+                    else {
+                        hi = mid;
+                    }
+                }
+            }
+            else {
+                m2 = (lo2 + hi2) >>> 1;
+                int pivot = src[m2];
+                m1 = lo1;                               // First left element > pivot
+                for (int hi = hi1; m1 < hi; ) {
+                    int mid = (m1 + hi) >>> 1;
+                    if (pivot < src[mid]) {
+                        hi = mid;
+                    }
+                    else {
+                        m1 = mid + 1;
+                    }
+                }
+            }
+            int outMid = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new IntMerger(src, dst, lo1, m1, lo2, m2, out),
+                      new IntMerger(src, dst, m1, hi1, m2, hi2, outMid));
+        }
+    }
+    //---------- END OF NESTED INT TASK CLASSES ------------
+
+    //-------------- NESTED LONG TASK CLASSES ---------------
+    // Sorts a[lo, hi), leaving the result in w[lo, hi) if intoWork is set, else in a[lo, hi)
+    private static final class LongSorter extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] a, w;
+        private final int lo, hi;
+        private final boolean intoWork;
+
+        LongSorter(long[] a, long[] w, int lo, int hi, boolean intoWork) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoWork = intoWork;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= THRESHOLD) {
+                MergeSort.sort(a, lo, hi, w, 0);     // w[lo, hi) is free to use as scratch
+                if (intoWork) {
+                    System.arraycopy(a, lo, w, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new LongSorter(a, w, lo, mid, !intoWork),      // Halves land in the
+                      new LongSorter(a, w, mid, hi, !intoWork));     // other array...
+            long[] src = intoWork ? a : w;
+            long[] dst = intoWork ? w : a;
+            new LongMerger(src, dst, lo, mid, mid, hi, lo).compute();  // ...and merge back
+        }
+    }
+
+    // Merges the sorted ranges src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    private static final class LongMerger extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out;
+
+        LongMerger(long[] src, long[] dst, int lo1, int hi1, int lo2, int hi2, int out) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= THRESHOLD) {
+                int i = lo1, j = lo2, k = out;
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[j] < src[i] ? src[j++] : src[i++];    // Ties take the left range
+                }
+                System.arraycopy(src, i, dst, k, hi1 - i);
+                System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+                return;
+            }
+            int m1, m2;                                 // Split both ranges around one pivot
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                long pivot = src[m1];
+                m2 = lo2;                               // First right element >= pivot
+                for (int hi = hi2; m2 < hi; ) {
+                    int mid = (m2 + hi) >>> 1;
+                    if (src[mid] < pivot) {
+                        m2 = mid + 1;
+                    }
+                    else {
+                        hi = mid;
+                    }
+                }
+            }
+            else {
+                m2 = (lo2 + hi2) >>> 1;
+                long pivot = src[m2];
+                m1 = lo1;                               // First left element > pivot
+                for (int hi = hi1; m1 < hi; ) {
+                    int mid = (m1 + hi) >>> 1;
+                    if (pivot < src[mid]) {
+                        hi = mid;
+                    }
+                    else {
+                        m1 = mid + 1;
+                    }
+                }
+            }
+            int outMid = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new LongMerger(src, dst, lo1, m1, lo2, m2, out),
+                      new LongMerger(src, dst, m1, hi1, m2, hi2, outMid));
+        }
+    }
+    //---------- END OF NESTED LONG TASK CLASSES ------------
+
+    //-------------- NESTED DOUBLE TASK CLASSES ---------------
+    // Sorts a[lo, hi), leaving the result in w[lo, hi) if intoWork is set, else in a[lo, hi)
+    private static final class DoubleSorter extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a, w;
+        private final int lo, hi;
+        private final boolean intoWork;
+
+        DoubleSorter(double[] a, double[] w, int lo, int hi, boolean intoWork) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoWork = intoWork;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= THRESHOLD) {
+                MergeSort.sort(a, lo, hi, w, 0);     // w[lo, hi) is free to use as scratch
+                if (intoWork) {
+                    System.arraycopy(a, lo, w, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new DoubleSorter(a, w, lo, mid, !intoWork),      // Halves land in the
+                      new DoubleSorter(a, w, mid, hi, !intoWork));     // other array...
+            double[] src = intoWork ? a : w;
+            double[] dst = intoWork ? w : a;
+            new DoubleMerger(src, dst, lo, mid, mid, hi, lo).compute();  // ...and merge back
+        }
+    }
+
+    // Merges the sorted ranges src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    private static final class DoubleMerger extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out;
+
+        DoubleMerger(double[] src, double[] dst, int lo1, int hi1, int lo2, int hi2, int out) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= THRESHOLD) {
+                int i = lo1, j = lo2, k = out;
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = Double.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];    // Ties take the left range
+                }
+                System.arraycopy(src, i, dst, k, hi1 - i);
+                System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+                return;
+            }
+            int m1, m2;                                 // Split both ranges around one pivot
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                double pivot = src[m1];
+                m2 = lo2;                               // First right element >= pivot
+                for (int hi = hi2; m2 < hi; ) {
+                    int mid = (m2 + hi) >>> 1;
+                    if (Double.compare(src[mid], pivot) < 0) {
+                        m2 = mid + 1;
+                    }
+                    else {
+                        hi = mid;
+                    }
+                }
+            }
+            else {
+                m2 = (lo2 + hi2) >>> 1;
+                double pivot = src[m2];
+                m1 = lo1;                               // First left element > pivot
+                for (int hi = hi1; m1 < hi; ) {
+                    int mid = (m1 + hi) >>> 1;
+                    if (Double.compare(pivot, src[mid]) < 0) {
+                        hi = mid;
+                    }
+                    else {
+                        m1 = mid + 1;
+                    }
+                }
+            }
+            int outMid = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new DoubleMerger(src, dst, lo1, m1, lo2, m2, out),
+                      new DoubleMerger(src, dst, m1, hi1, m2, hi2, outMid));
+        }
+    }
+    //---------- END OF NESTED DOUBLE TASK CLASSES ------------
+
+    //-------------- NESTED GENERIC TASK CLASSES ---------------
+    // Sorts a[lo, hi), leaving the result in w[lo, hi) if intoWork is set, else in a[lo, hi)
+    @SuppressWarnings("serial")                 // Never serialized: T[] and the Comparator need not be
+    private static final class GenericSorter<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a, w;
+        private final int lo, hi;
+        private final boolean intoWork;
+        private final Comparator<? super T> c;
+
+        GenericSorter(T[] a, T[] w, int lo, int hi, boolean intoWork, Comparator<? super T> c) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoWork = intoWork;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= THRESHOLD) {
+                MergeSort.sort(a, lo, hi, w, 0, c);     // w[lo, hi) is free to use as scratch
+                if (intoWork) {
+                    System.arraycopy(a, lo, w, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new GenericSorter<>(a, w, lo, mid, !intoWork, c),      // Halves land in the
+                      new GenericSorter<>(a, w, mid, hi, !intoWork, c));     // other array...
+            T[] src = intoWork ? a : w;
+            T[] dst = intoWork ? w : a;
+            new GenericMerger<>(src, dst, lo, mid, mid, hi, lo, c).compute();  // ...and merge back
+        }
+    }
+
+    // Merges the sorted ranges src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    @SuppressWarnings("serial")                 // Never serialized: T[] and the Comparator need not be
+    private static final class GenericMerger<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out;
+        private final Comparator<? super T> c;
+
+        GenericMerger(T[] src, T[] dst, int lo1, int hi1, int lo2, int hi2, int out, Comparator<? super T> c) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= THRESHOLD) {
+                int i = lo1, j = lo2, k = out;
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];    // Ties take the left range
+                }
+                System.arraycopy(src, i, dst, k, hi1 - i);
+                System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+                return;
+            }
+            int m1, m2;                                 // Split both ranges around one pivot
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                T pivot = src[m1];
+                m2 = lo2;                               // First right element >= pivot
+                for (int hi = hi2; m2 < hi; ) {
+                    int mid = (m2 + hi) >>> 1;
+                    if (c.compare(src[mid], pivot) < 0) {
+                        m2 = mid + 1;
+                    }
+                    else {
+                        hi = mid;
+                    }
+                }
+            }
+            else {
+                m2 = (lo2 + hi2) >>> 1;
+                T pivot = src[m2];
+                m1 = lo1;                               // First left element > pivot
+                for (int hi = hi1; m1 < hi; ) {
+                    int mid = (m1 + hi) >>> 1;
+                    if (c.compare(pivot, src[mid]) < 0) {
+                        hi = mid;
+                    }
+                    else {
+                        m1 = mid + 1;
+                    }
+                }
+            }
+            int outMid = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new GenericMerger<>(src, dst, lo1, m1, lo2, m2, out, c),
+                      new GenericMerger<>(src, dst, m1, hi1, m2, hi2, outMid, c));
+        }
+    }
+    //---------- END OF NESTED GENERIC TASK CLASSES ------------
+}
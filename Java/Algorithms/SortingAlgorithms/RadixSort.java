@@ -0,0 +1,416 @@
+package org.dsahub;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    LSD RADIX SORT
+    ------------------------------------------------------------------------------------
+    Non-comparison sort for fixed-width integer keys. The key is split into digits of
+    `digitBits` bits each, and the array is stably distributed by one digit at a time,
+    starting with the Least Significant Digit. After the pass on the most significant
+    digit the array is fully sorted.
+
+    STEP BY STEP (one pass):
+    ------------------------------------------------------------------------------------
+    1. Count how many keys have each digit value (a histogram with 2^digitBits buckets).
+
+    2. Turn the counts into starting offsets (prefix sums).
+
+    3. Walk the keys in order and copy each one to the next free slot of its bucket in a
+       buffer array. Keys with the same digit keep their order, so the pass is stable.
+
+    4. Swap the roles of the array and the buffer and move on to the next digit.
+
+    Signed keys: the sign bit is flipped before extracting digits, which maps
+    Integer.MIN_VALUE..MAX_VALUE onto 0..2^32 - 1 in the same order, so negative keys
+    sort before positive ones.
+
+    Skipped passes: if every key has the same value for a digit (e.g. the high digits of
+    small ids or timestamps), the pass would not move anything and is skipped.
+
+
+    DIGIT SIZE:
+    ------------------------------------------------------------------------------------
+    - 8 bits:  4 passes for int, 8 for long; 256-entry histogram (fits in L1)
+    - 11 bits: 3 passes for int, 6 for long; 2048-entry histogram (8 KB)
+    - 16 bits: 2 passes for int, 4 for long; 65536-entry histogram (256 KB) - fewest
+               passes, only pays off for large arrays
+
+
+    PARALLEL VARIANT:
+    ------------------------------------------------------------------------------------
+    parallelSort() splits the array into one chunk per thread. In each pass every chunk
+    builds its own histogram in parallel; the per-chunk offsets are then laid out as
+    (digit 0: chunk 0, chunk 1, ...), (digit 1: chunk 0, chunk 1, ...), ... so each chunk
+    scatters its keys into a disjoint set of slots, again in parallel, and the pass stays
+    stable.
+
+
+    COMPLEXITY ANALYSIS:
+    ------------------------------------------------------------------------------------
+    - Time Complexity:  O(p * (n + 2^digitBits)) for p = ceil(keyBits / digitBits) passes
+    - Space Complexity: O(n + 2^digitBits) - the buffer and histogram are kept by the
+                        RadixSort instance and reused by later sorts
+    - Stable
+    - A RadixSort instance is not thread-safe: use one instance per thread (parallelSort
+      manages its own worker threads)
+
+*/
+
+public class RadixSort {
+
+    public static final int SMALL_THRESHOLD = 64;            // Ranges this small use InsertionSort
+    public static final int PARALLEL_MIN_CHUNK = 1 << 16;    // Min elements per parallel chunk
+
+
+    // INSTANCE VARIABLES
+
+    private final int digitBits;            // Bits per digit: 8, 11 or 16
+    private final int mask;                 // 2^digitBits - 1
+    private final int[] count;              // Histogram reused by the sequential sorts
+    private int[][] chunkCounts;            // Per-chunk histograms for parallelSort
+    private int[] intBuffer;                // Reused scatter buffers, grown on demand
+    private long[] longBuffer;
+
+
+    // CONSTRUCTORS
+
+    public RadixSort() {
+        this(8);
+    }
+
+    public RadixSort(int digitBits) {
+        if (digitBits != 8 && digitBits != 11 && digitBits != 16) {
+            throw new IllegalArgumentException("Digit size must be 8, 11 or 16 bits");
+        }
+        this.digitBits = digitBits;
+        this.mask = (1 << digitBits) - 1;
+        this.count = new int[1 << digitBits];
+    }
+
+
+    // STATIC CONVENIENCE METHODS (allocate a new sorter per call)
+
+    public static void radixSort(int[] arr) {
+        new RadixSort().sort(arr);
+    }
+
+    public static void radixSort(long[] arr) {
+        new RadixSort().sort(arr);
+    }
+
+
+    // ACCESS METHODS
+
+    public int digitBits() {
+        return digitBits;
+    }
+
+
+    // INT ARRAYS
+
+    // Sorts the given array into ascending (signed) order
+    public void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending (signed) order
+    public void sort(int[] arr, int lo, int hi) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        int n = hi - lo;
+        if (n <= SMALL_THRESHOLD) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        int[] src = arr, dst = intBuffer(n);
+        int srcOff = lo, dstOff = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += digitBits) {
+            Arrays.fill(count, 0);
+            for (int i = srcOff; i < srcOff + n; i++) {
+                count[digit(src[i], shift)]++;
+            }
+            if (count[digit(src[srcOff], shift)] == n) {
+                continue;                                   // All keys share this digit
+            }
+            int sum = 0;
+            for (int d = 0; d <= mask; d++) {               // Counts -> starting offsets
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = srcOff; i < srcOff + n; i++) {
+                int key = src[i];
+                dst[dstOff + count[digit(key, shift)]++] = key;
+            }
+            int[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, lo, n);      // Odd number of passes: copy back
+        }
+    }
+
+    // Sorts the given array using the common ForkJoinPool
+    public void parallelSort(int[] arr) {
+        parallelSort(arr, 0, arr.length, ForkJoinPool.commonPool());
+    }
+
+    // Sorts arr[lo, hi) using the given pool, one chunk of the array per worker
+    public void parallelSort(int[] arr, int lo, int hi, ForkJoinPool pool) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        int n = hi - lo;
+        int chunks = Math.min(pool.getParallelism(), n / PARALLEL_MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(arr, lo, hi);                              // Not worth splitting
+            return;
+        }
+        int[][] counts = chunkCounts(chunks);
+        int[] src = arr, dst = intBuffer(n);
+        int srcOff = lo, dstOff = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += digitBits) {
+            pool.invoke(new IntPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, false, 0, chunks));
+            if (!chunkOffsets(counts, chunks, n)) {
+                continue;                                   // All keys share this digit
+            }
+            pool.invoke(new IntPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, true, 0, chunks));
+            int[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, lo, n);
+        }
+    }
+
+
+    // LONG ARRAYS
+
+    // Sorts the given array into ascending (signed) order
+    public void sort(long[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    // Sorts arr[lo, hi) into ascending (signed) order
+    public void sort(long[] arr, int lo, int hi) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        int n = hi - lo;
+        if (n <= SMALL_THRESHOLD) {
+            InsertionSort.insertionSort(arr, lo, hi);
+            return;
+        }
+        long[] src = arr, dst = longBuffer(n);
+        int srcOff = lo, dstOff = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += digitBits) {
+            Arrays.fill(count, 0);
+            for (int i = srcOff; i < srcOff + n; i++) {
+                count[digit(src[i], shift)]++;
+            }
+            if (count[digit(src[srcOff], shift)] == n) {
+                continue;                                   // All keys share this digit
+            }
+            int sum = 0;
+            for (int d = 0; d <= mask; d++) {               // Counts -> starting offsets
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = srcOff; i < srcOff + n; i++) {
+                long key = src[i];
+                dst[dstOff + count[digit(key, shift)]++] = key;
+            }
+            long[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, lo, n);      // Odd number of passes: copy back
+        }
+    }
+
+    // Sorts the given array using the common ForkJoinPool
+    public void parallelSort(long[] arr) {
+        parallelSort(arr, 0, arr.length, ForkJoinPool.commonPool());
+    }
+
+    // Sorts arr[lo, hi) using the given pool, one chunk of the array per worker
+    public void parallelSort(long[] arr, int lo, int hi, ForkJoinPool pool) {
+        IntroSort.checkRange(arr.length, lo, hi);
+        int n = hi - lo;
+        int chunks = Math.min(pool.getParallelism(), n / PARALLEL_MIN_CHUNK);
+        if (chunks <= 1) {
+            sort(arr, lo, hi);                              // Not worth splitting
+            return;
+        }
+        int[][] counts = chunkCounts(chunks);
+        long[] src = arr, dst = longBuffer(n);
+        int srcOff = lo, dstOff = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += digitBits) {
+            pool.invoke(new LongPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, false, 0, chunks));
+            if (!chunkOffsets(counts, chunks, n)) {
+                continue;                                   // All keys share this digit
+            }
+            pool.invoke(new LongPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, true, 0, chunks));
+            long[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, lo, n);
+        }
+    }
+
+
+    //-------------- NESTED PASS TASK CLASSES ---------------
+    // One half of a parallel pass over chunks [from, to): builds each chunk's histogram,
+    // or (scatter) moves each chunk's keys to the offsets left in its histogram
+    private final class IntPass extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src, dst;
+        private final int srcOff, dstOff, n, chunks, shift, from, to;
+        private final int[][] counts;
+        private final boolean scatter;
+
+        IntPass(int[] src, int srcOff, int[] dst, int dstOff, int n, int chunks,
+                int[][] counts, int shift, boolean scatter, int from, int to) {
+            this.src = src;
+            this.srcOff = srcOff;
+            this.dst = dst;
+            this.dstOff = dstOff;
+            this.n = n;
+            this.chunks = chunks;
+            this.counts = counts;
+            this.shift = shift;
+            this.scatter = scatter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new IntPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, scatter, from, mid),
+                          new IntPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, scatter, mid, to));
+                return;
+            }
+            int[] offset = counts[from];
+            int start = srcOff + (int) ((long) n * from / chunks);
+            int end = srcOff + (int) ((long) n * (from + 1) / chunks);
+            if (scatter) {
+                for (int i = start; i < end; i++) {
+                    int key = src[i];
+                    dst[dstOff + offset[digit(key, shift)]++] = key;
+                }
+            }
+            else {
+                Arrays.fill(offset, 0);
+                for (int i = start; i < end; i++) {
+                    offset[digit(src[i], shift)]++;
+                }
+            }
+        }
+    }
+
+    private final class LongPass extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src, dst;
+        private final int srcOff, dstOff, n, chunks, shift, from, to;
+        private final int[][] counts;
+        private final boolean scatter;
+
+        LongPass(long[] src, int srcOff, long[] dst, int dstOff, int n, int chunks,
+                 int[][] counts, int shift, boolean scatter, int from, int to) {
+            this.src = src;
+            this.srcOff = srcOff;
+            this.dst = dst;
+            this.dstOff = dstOff;
+            this.n = n;
+            this.chunks = chunks;
+            this.counts = counts;
+            this.shift = shift;
+            this.scatter = scatter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LongPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, scatter, from, mid),
+                          new LongPass(src, srcOff, dst, dstOff, n, chunks, counts, shift, scatter, mid, to));
+                return;
+            }
+            int[] offset = counts[from];
+            int start = srcOff + (int) ((long) n * from / chunks);
+            int end = srcOff + (int) ((long) n * (from + 1) / chunks);
+            if (scatter) {
+                for (int i = start; i < end; i++) {
+                    long key = src[i];
+                    dst[dstOff + offset[digit(key, shift)]++] = key;
+                }
+            }
+            else {
+                Arrays.fill(offset, 0);
+                for (int i = start; i < end; i++) {
+                    offset[digit(src[i], shift)]++;
+                }
+            }
+        }
+    }
+    //---------- END OF NESTED PASS TASK CLASSES ------------
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Digit of the key starting at bit `shift`, with the sign bit flipped
+    private int digit(int key, int shift) {
+        return ((key ^ Integer.MIN_VALUE) >>> shift) & mask;
+    }
+
+    private int digit(long key, int shift) {
+        return (int) ((key ^ Long.MIN_VALUE) >>> shift) & mask;
+    }
+
+    // Turns per-chunk histograms into per-chunk starting offsets, digit-major so that
+    // equal digits stay in chunk order. Returns false if one digit holds all n keys
+    private boolean chunkOffsets(int[][] counts, int chunks, int n) {
+        int sum = 0;
+        for (int d = 0; d <= mask; d++) {
+            int digitStart = sum;
+            for (int c = 0; c < chunks; c++) {
+                int k = counts[c][d];
+                counts[c][d] = sum;
+                sum += k;
+            }
+            if (sum - digitStart == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[][] chunkCounts(int chunks) {
+        if (chunkCounts == null || chunkCounts.length < chunks) {
+            chunkCounts = new int[chunks][1 << digitBits];
+        }
+        return chunkCounts;
+    }
+
+    private int[] intBuffer(int n) {
+        if (intBuffer == null || intBuffer.length < n) {
+            intBuffer = new int[n];
+        }
+        return intBuffer;
+    }
+
+    private long[] longBuffer(int n) {
+        if (longBuffer == null || longBuffer.length < n) {
+            longBuffer = new long[n];
+        }
+        return longBuffer;
+    }
+}
@@ -0,0 +1,99 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    BATCH SEARCH BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark for looking up a whole batch of keys in one sorted int[].
+    - The baseline calls BinarySearch once per key. The others use BatchSearch: the
+      galloping co-scan, the interleaved lock-step searches and the parallel co-scan.
+    - The queries are sorted once during setup (the co-scan requires it); the baseline
+      and the interleaved search get the same sorted queries for a fair comparison.
+
+    Parameters:
+    - size: Number of keys in the sorted array
+    - batch: Number of queries per call
+
+    Benchmarks:
+    - perKeyBinarySearch: one BinarySearch.binarySearch call per query
+    - coScan: BatchSearch.search
+    - interleaved: BatchSearch.searchInterleaved
+    - parallelCoScan: BatchSearch.parallelSearch on the common ForkJoinPool
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchSearchBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"1048576", "67108864"})
+    public int size;
+
+    @Param({"1000", "100000"})
+    public int batch;
+
+
+    // STATE
+
+    private int[] array;
+    private int[] queries;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt();
+        }
+        Arrays.sort(array);
+        queries = new int[batch];
+        for (int i = 0; i < batch; i++) {
+            queries[i] = (i % 2 == 0) ? array[random.nextInt(size)] : random.nextInt();
+        }
+        Arrays.sort(queries);
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public int[] perKeyBinarySearch() {
+        int[] result = new int[batch];
+        for (int i = 0; i < batch; i++) {
+            result[i] = BinarySearch.binarySearch(array, queries[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] coScan() {
+        return BatchSearch.search(array, queries);
+    }
+
+    @Benchmark
+    public int[] interleaved() {
+        return BatchSearch.searchInterleaved(array, queries);
+    }
+
+    @Benchmark
+    public int[] parallelCoScan() {
+        return BatchSearch.parallelSearch(array, queries);
+    }
+}
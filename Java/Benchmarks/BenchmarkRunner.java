@@ -0,0 +1,77 @@
+package org.dsahub;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/*
+    BENCHMARK RUNNER
+    ------------------------------------------------------------------------------------
+    Description:
+    - Entry point for running the JMH benchmarks in this directory.
+    - Every run attaches the GC profiler, so allocation rate (gc.alloc.rate.norm, bytes
+      per operation) is reported next to throughput.
+    - Results are written as JSON so they can be compared run over run.
+    - runThreadSweep() repeats a benchmark at several thread counts, since JMH thread
+      counts cannot be expressed as a @Param. Each count gets its own result file.
+    - averagingWeight() lets a benchmark report a per-iteration ratio or snapshot (CPU
+      usage, hit rate, ...) as an @AuxCounters metric, so it lands in the JSON results.
+
+    Usage:
+    - java -jar benchmarks/target/benchmarks.jar [include-regex] [result-file]
+      (built by mvn -B package; the jar's main class is this runner)
+        * include-regex: Benchmarks to run (default: every benchmark)
+        * result-file:   Where the JSON results go (default: jmh-result.json)
+ */
+
+
+public class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        String result = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)          // Allocation rate per operation
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+
+        new Runner(options).run();
+    }
+
+    // Runs the named benchmark once per thread count, writing <name>-<threads>t.json for each
+    public static void runThreadSweep(String benchmark, int[] threadCounts) throws RunnerException {
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(benchmark)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(benchmark + "-" + threads + "t.json")
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+
+    // Weight of one iteration's value in an @AuxCounters(EVENTS) counter. JMH sums such
+    // counters over all measured iterations of all forks, so measured values scaled by
+    // this weight add up to their average; warm-up values are left as they are
+    static double averagingWeight(BenchmarkParams benchmark, IterationParams iteration) {
+        if (iteration.getType() != IterationType.MEASUREMENT) {
+            return 1.0;
+        }
+        return 1.0 / (Math.max(benchmark.getForks(), 1) * iteration.getCount());
+    }
+}
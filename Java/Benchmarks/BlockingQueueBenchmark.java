@@ -0,0 +1,178 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+
+/*
+    BLOCKING QUEUE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of one producer thread handing elements to one consumer thread,
+      comparing a waiting consumer with a spin-polling one:
+        * blocking: ArrayBlockingQueue, producer offer / consumer poll (spin, then park)
+        * spinning: ArrayQueue behind a monitor (ConcurrentQueueBenchmark's baseline),
+                    producer retries enqueue while full, consumer retries dequeue until
+                    it gets an element
+    - Mode.SampleTime reports the latency distribution of each method; the consumer's
+      score is the time it waits for (and then removes) the next element.
+    - The producer pauses `gapMicros` between elements (0 = back to back). With a gap
+      the spinning consumer burns a core while it waits and the blocking one parks.
+    - CPU usage is reported as the secondary metric cpuCores: each benchmark thread's
+      own CPU time (ThreadMXBean), relative to wall time, summed over the producer and
+      consumer, so JMH and JIT threads are not counted. It is the average number of
+      busy cores (2.0 = both threads spinning all the time) and is part of the JSON
+      results.
+    - The blocking side uses offer/poll with a timeout rather than put/take, and both
+      sides check Control.stopMeasurement, so neither thread can hang once its partner
+      has finished the iteration.
+
+    Parameters:
+    - gapMicros: Pause of the producer between two elements
+
+    Benchmarks:
+    - blocking / spinning groups, each with a producer and a consumer method
+ */
+
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class BlockingQueueBenchmark {
+
+    public static final int CAPACITY = 1 << 10;
+    public static final long WAIT_MICROS = 1000;    // Longest single wait, so a thread notices the end
+
+
+    //-------------- NESTED CPU USAGE CLASS ---------------
+    // Per-thread CPU time over an iteration, as a fraction of its wall time
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuUsage {
+
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        public double cpuCores;                     // Reported (summed over threads, averaged over iterations)
+        private double weight;
+        private long startCpuNanos;
+        private long startWallNanos;
+
+        @Setup(Level.Iteration)
+        public void start(BenchmarkParams benchmark, IterationParams iteration) {
+            weight = BenchmarkRunner.averagingWeight(benchmark, iteration);
+            startCpuNanos = THREADS.getCurrentThreadCpuTime();
+            startWallNanos = System.nanoTime();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            long cpu = THREADS.getCurrentThreadCpuTime() - startCpuNanos;
+            long wall = System.nanoTime() - startWallNanos;
+            cpuCores = (startCpuNanos >= 0 && wall > 0) ? weight * cpu / wall : 0;
+        }
+    }
+    //---------- END OF NESTED CPU USAGE CLASS ------------
+
+
+    // PARAMETERS
+
+    @Param({"0", "10", "100"})
+    public int gapMicros;
+
+
+    // STATE
+
+    private ArrayBlockingQueue<Integer> blocking;
+    private ConcurrentQueueBenchmark.SynchronizedArrayQueue<Integer> spinning;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        blocking = new ArrayBlockingQueue<>(CAPACITY);
+        spinning = new ConcurrentQueueBenchmark.SynchronizedArrayQueue<>(CAPACITY);
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public void blockingProducer(Control control, CpuUsage cpu) throws InterruptedException {
+        pause();
+        while (!blocking.offer(element, WAIT_MICROS, TimeUnit.MICROSECONDS)) {
+            if (control.stopMeasurement) {
+                return;                             // Consumer has stopped
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public Integer blockingConsumer(Control control, CpuUsage cpu) throws InterruptedException {
+        Integer e;
+        while ((e = blocking.poll(WAIT_MICROS, TimeUnit.MICROSECONDS)) == null) {
+            if (control.stopMeasurement) {
+                return null;                        // Producer has stopped
+            }
+        }
+        return e;
+    }
+
+    @Benchmark
+    @Group("spinning")
+    @GroupThreads(1)
+    public void spinningProducer(Control control, CpuUsage cpu) {
+        pause();
+        while (true) {
+            try {
+                spinning.enqueue(element);
+                return;
+            }
+            catch (IllegalStateException full) {
+                if (control.stopMeasurement) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("spinning")
+    @GroupThreads(1)
+    public Integer spinningConsumer(Control control, CpuUsage cpu) {
+        Integer e;
+        while ((e = spinning.dequeue()) == null) {
+            if (control.stopMeasurement) {
+                return null;
+            }
+            Thread.onSpinWait();
+        }
+        return e;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Sleeps the producer between elements (parkNanos, so the pause itself costs no CPU)
+    private void pause() {
+        if (gapMicros > 0) {
+            LockSupport.parkNanos(gapMicros * 1000L);
+        }
+    }
+}
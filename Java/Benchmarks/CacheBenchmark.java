@@ -0,0 +1,206 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    CACHE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH trace-driven benchmark of the caches: each invocation replays a whole access
+      trace against a fresh cache, doing get and, on a miss, put (a read-through cache).
+    - The trace is read from traceFile, one access per line: the first token of the
+      line is the key (a long, or any other token, which is hashed); blank lines and
+      lines starting with '#' are skipped. With no traceFile, a synthetic trace of
+      SYNTHETIC_ACCESSES is generated (fixed seed): Zipf(ZIPF_EXPONENT) over ZIPF_KEYS
+      popular keys, with ONE_HIT_PERCENT of the accesses going to keys used only once.
+    - Keys are boxed once when the trace is loaded, so the replay measures the caches.
+    - The hit rate and eviction counts of a replay are reported as the secondary
+      metrics hitRate, evictions and rejections (in the JSON results too); compare them
+      along with the scores, since a slower policy that saves misses is usually worth it.
+
+    Parameters:
+    - impl: CacheInterface implementation
+    - cacheSize: Capacity of the cache
+    - traceFile: Path of the access log to replay ("" for the synthetic trace)
+
+    Benchmarks:
+    - replay(): Replays the whole trace (score is per replay)
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CacheBenchmark {
+
+    public static final int SYNTHETIC_ACCESSES = 1_000_000;
+    public static final int ZIPF_KEYS = 100_000;
+    public static final double ZIPF_EXPONENT = 0.99;
+    public static final int ONE_HIT_PERCENT = 20;
+
+
+    //-------------- NESTED REPLAY STATS CLASS ---------------
+    // CacheStats of the last replay of an iteration (every replay is the same)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReplayStats {
+
+        public double hitRate;                      // Reported (averaged over iterations)
+        public double evictions;
+        public double rejections;
+        private double weight;
+
+        @Setup(Level.Iteration)
+        public void start(BenchmarkParams benchmark, IterationParams iteration) {
+            weight = BenchmarkRunner.averagingWeight(benchmark, iteration);
+        }
+
+        void record(CacheStats stats) {
+            hitRate = weight * stats.hitRate();
+            evictions = weight * stats.evictions();
+            rejections = weight * stats.rejections();
+        }
+    }
+    //---------- END OF NESTED REPLAY STATS CLASS ------------
+
+
+    // PARAMETERS
+
+    @Param({"LruCache", "LfuCache", "WTinyLfuCache"})
+    public String impl;
+
+    @Param({"1000", "10000"})
+    public int cacheSize;
+
+    @Param({""})
+    public String traceFile;
+
+
+    // STATE
+
+    private Long[] trace;
+    private CacheInterface<Long, Long> cache;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void loadTrace() {
+        trace = traceFile.isEmpty() ? syntheticTrace() : readTrace(traceFile);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        switch (impl) {
+            case "LruCache":
+                cache = new LruCache<>(cacheSize);
+                break;
+            case "LfuCache":
+                cache = new LfuCache<>(cacheSize);
+                break;
+            case "WTinyLfuCache":
+                cache = new WTinyLfuCache<>(cacheSize);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown cache implementation: " + impl);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(ReplayStats stats) {
+        stats.record(cache.stats());
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public long replay() {
+        CacheInterface<Long, Long> cache = this.cache;
+        long sum = 0;
+        for (Long key : trace) {
+            Long value = cache.get(key);
+            if (value == null) {
+                value = key;                    // "Load" the value
+                cache.put(key, value);
+            }
+            sum += value;
+        }
+        return sum;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Reads one key per line: the first token, as a long if it is one, else its hash
+    private static Long[] readTrace(String path) {
+        Long[] keys = new Long[1024];
+        int n = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(path))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String token = line.split("[\\s,]+", 2)[0];
+                long key;
+                try {
+                    key = Long.parseLong(token);
+                }
+                catch (NumberFormatException e) {
+                    key = token.hashCode();
+                }
+                if (n == keys.length) {
+                    keys = Arrays.copyOf(keys, 2 * n);
+                }
+                keys[n++] = key;
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot read trace " + path, e);
+        }
+        if (n == 0) {
+            throw new IllegalArgumentException("Trace is empty: " + path);
+        }
+        return Arrays.copyOf(keys, n);
+    }
+
+    // Zipf-distributed popular keys mixed with keys that are accessed only once
+    private static Long[] syntheticTrace() {
+        Random random = new Random(42);
+        double[] cumulative = new double[ZIPF_KEYS];
+        double total = 0;
+        for (int rank = 0; rank < ZIPF_KEYS; rank++) {
+            total += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = total;
+        }
+        Long[] keys = new Long[SYNTHETIC_ACCESSES];
+        long oneHitKey = ZIPF_KEYS;             // Never collides with a popular key
+        for (int i = 0; i < keys.length; i++) {
+            if (random.nextInt(100) < ONE_HIT_PERCENT) {
+                keys[i] = oneHitKey++;
+            }
+            else {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                keys[i] = (long) ((rank < 0) ? -rank - 1 : rank);
+            }
+        }
+        return keys;
+    }
+}
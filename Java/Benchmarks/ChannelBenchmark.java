@@ -0,0 +1,128 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+    CHANNEL BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of Channel under massive virtual-thread concurrency (needs JDK 21+).
+    - Each invocation starts `threads` virtual threads, half producers and half consumers,
+      on a fresh virtual-thread-per-task executor and waits until all have finished.
+      Every producer sends MESSAGES messages; with that many threads nearly all of them
+      are blocked at any moment, which only works if blocking does not pin carriers.
+    - sendReceive: all threads share one channel. Consumers loop on receive() until it
+      returns null; the channel is closed once every producer is done. The baseline is
+      java.util.concurrent.LinkedBlockingQueue (also ReentrantLock based), which has no
+      close and is ended with one poison pill per consumer.
+    - Channel.select is measured by ChannelSelectBenchmark, which has no baseline.
+
+    Parameters:
+    - impl: Channel or LinkedBlockingQueue
+    - threads: Total number of virtual threads per invocation
+
+    Benchmarks:
+    - sendReceive: Time to pass threads / 2 * MESSAGES messages through one queue
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ChannelBenchmark {
+
+    public static final int MESSAGES = 10;          // Messages per producer
+    private static final Integer POISON = -1;       // End marker for LinkedBlockingQueue
+
+
+    // PARAMETERS
+
+    @Param({"Channel", "LinkedBlockingQueue"})
+    public String impl;
+
+    @Param({"10000", "100000"})
+    public int threads;
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public long sendReceive() throws InterruptedException {
+        int producers = threads / 2;
+        int consumers = threads - producers;
+        LongAdder received = new LongAdder();
+        CountDownLatch sent = new CountDownLatch(producers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (impl.equals("Channel")) {
+                Channel<Integer> channel = new Channel<>();
+                for (int c = 0; c < consumers; c++) {
+                    executor.execute(() -> {
+                        try {
+                            while (channel.receive() != null) {
+                                received.increment();
+                            }
+                        }
+                        catch (InterruptedException ignored) {}
+                    });
+                }
+                startProducers(executor, producers, sent, channel::send);
+                sent.await();
+                channel.close();
+            }
+            else {
+                LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+                for (int c = 0; c < consumers; c++) {
+                    executor.execute(() -> {
+                        try {
+                            while (!POISON.equals(queue.take())) {
+                                received.increment();
+                            }
+                        }
+                        catch (InterruptedException ignored) {}
+                    });
+                }
+                startProducers(executor, producers, sent, queue::put);
+                sent.await();
+                for (int c = 0; c < consumers; c++) {
+                    queue.put(POISON);
+                }
+            }
+        }                                           // close() waits for every thread
+        return received.sum();
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Something that accepts a message and may block
+    private interface Sender {
+        void send(Integer message) throws InterruptedException;
+    }
+
+    // Starts the producers; each sends MESSAGES messages and then counts down `sent`
+    private static void startProducers(ExecutorService executor, int producers, CountDownLatch sent,
+                                       Sender sender) {
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                try {
+                    for (int m = 0; m < MESSAGES; m++) {
+                        sender.send(m);
+                    }
+                }
+                catch (InterruptedException ignored) {}
+                sent.countDown();
+            });
+        }
+    }
+}
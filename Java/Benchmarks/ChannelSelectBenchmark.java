@@ -0,0 +1,96 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+    CHANNEL SELECT BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of Channel.select under massive virtual-thread concurrency (needs
+      JDK 21+), the fan-in counterpart of ChannelBenchmark.
+    - Each invocation starts `threads` virtual threads, half producers and half consumers,
+      on a fresh virtual-thread-per-task executor and waits until all have finished.
+      Producers send MESSAGES messages each, round-robin over CHANNELS channels, and
+      consumers receive with Channel.select over all of them until every channel is
+      closed and drained.
+    - select has no java.util.concurrent counterpart, so unlike ChannelBenchmark there
+      is no impl parameter: every score is a real Channel measurement.
+
+    Parameters:
+    - threads: Total number of virtual threads per invocation
+
+    Benchmarks:
+    - selectFanIn: Time to pass threads / 2 * MESSAGES messages through CHANNELS
+      channels read with select
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ChannelSelectBenchmark {
+
+    public static final int MESSAGES = ChannelBenchmark.MESSAGES;   // Messages per producer
+    public static final int CHANNELS = 8;           // Channels read with select
+
+
+    // PARAMETERS
+
+    @Param({"10000", "100000"})
+    public int threads;
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public long selectFanIn() throws InterruptedException {
+        int producers = threads / 2;
+        int consumers = threads - producers;
+        LongAdder received = new LongAdder();
+        CountDownLatch sent = new CountDownLatch(producers);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Channel<Integer>[] channels = new Channel[CHANNELS];
+        for (int i = 0; i < CHANNELS; i++) {
+            channels[i] = new Channel<>();
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < consumers; c++) {
+                executor.execute(() -> {
+                    try {
+                        while (Channel.select(channels) != null) {
+                            received.increment();
+                        }
+                    }
+                    catch (InterruptedException ignored) {}
+                });
+            }
+            for (int p = 0; p < producers; p++) {
+                Channel<Integer> channel = channels[p % CHANNELS];
+                executor.execute(() -> {
+                    try {
+                        for (int m = 0; m < MESSAGES; m++) {
+                            channel.send(m);
+                        }
+                    }
+                    catch (InterruptedException ignored) {}
+                    sent.countDown();
+                });
+            }
+            sent.await();
+            for (Channel<Integer> channel : channels) {
+                channel.close();
+            }
+        }
+        return received.sum();
+    }
+}
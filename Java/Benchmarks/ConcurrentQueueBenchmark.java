@@ -0,0 +1,116 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    CONCURRENT QUEUE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH contention benchmark for the thread-safe QueueInterface implementations.
+    - Every benchmark thread shares one queue and repeatedly enqueues then dequeues, so
+      producers and consumers contend on both ends at once.
+    - The baseline is an ArrayQueue guarded by synchronized methods, which is how the
+      single-threaded queues are shared today.
+    - main() sweeps the thread count from 1 to 64 (JMH thread counts cannot be @Param).
+
+    Parameters:
+    - impl: Name of the queue implementation under test
+
+    Benchmarks:
+    - enqueueDequeue(): Throughput of an enqueue/dequeue pair per thread
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+
+    public static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    public static final int CAPACITY = 1 << 16;
+
+
+    //-------------- NESTED SYNCHRONIZED QUEUE CLASS ---------------
+    // Baseline: the single-threaded ArrayQueue behind a single monitor
+    static class SynchronizedArrayQueue<E> implements QueueInterface<E> {
+
+        private final ArrayQueue<E> queue;
+
+        SynchronizedArrayQueue(int capacity) {
+            queue = new ArrayQueue<>(capacity);
+        }
+
+        @Override
+        public synchronized int size() { return queue.size(); }
+        @Override
+        public synchronized boolean isEmpty() { return queue.isEmpty(); }
+        @Override
+        public synchronized E first() { return queue.first(); }
+        @Override
+        public synchronized void enqueue(E e) { queue.enqueue(e); }
+        @Override
+        public synchronized E dequeue() { return queue.dequeue(); }
+    }
+    //---------- END OF NESTED SYNCHRONIZED QUEUE CLASS ------------
+
+
+    // PARAMETERS
+
+    @Param({"LockFreeArrayQueue", "LockFreeLinkedQueue", "SynchronizedArrayQueue"})
+    public String impl;
+
+
+    // STATE
+
+    private QueueInterface<Integer> queue;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = create(impl, CAPACITY);
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void enqueueDequeue(Blackhole bh) {
+        queue.enqueue(element);
+        bh.consume(queue.dequeue());
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation with the given capacity (if bounded)
+    static QueueInterface<Integer> create(String impl, int capacity) {
+        switch (impl) {
+            case "LockFreeArrayQueue":
+                return new LockFreeArrayQueue<>(capacity);
+            case "LockFreeLinkedQueue":
+                return new LockFreeLinkedQueue<>();
+            case "SynchronizedArrayQueue":
+                return new SynchronizedArrayQueue<>(capacity);
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+    }
+
+
+    // ENTRY POINT
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.runThreadSweep(ConcurrentQueueBenchmark.class.getSimpleName(), THREADS);
+    }
+}
@@ -0,0 +1,119 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    CONCURRENT STACK BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH contention benchmark for the thread-safe StackInterface implementations, shaped
+      like an object pool: every benchmark thread shares one stack and repeatedly pushes
+      an element and pops one, so pushes and pops from different threads overlap.
+    - The stack is pre-filled with PREFILL elements so pops rarely find it empty.
+    - The baseline is an ArrayStack guarded by synchronized methods.
+    - main() sweeps the thread count from 1 to 64 (JMH thread counts cannot be @Param).
+
+    Parameters:
+    - impl: Name of the stack implementation under test
+
+    Benchmarks:
+    - pushPop(): Throughput of a push/pop pair per thread
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+
+    public static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    public static final int PREFILL = 1024;
+
+
+    //-------------- NESTED SYNCHRONIZED STACK CLASS ---------------
+    // Baseline: the single-threaded ArrayStack behind a single monitor
+    static class SynchronizedArrayStack<E> implements StackInterface<E> {
+
+        private final ArrayStack<E> stack;
+
+        SynchronizedArrayStack(int capacity) {
+            stack = new ArrayStack<>(capacity, GrowthPolicyInterface.doubling());
+        }
+
+        @Override
+        public synchronized int size() { return stack.size(); }
+        @Override
+        public synchronized boolean isEmpty() { return stack.isEmpty(); }
+        @Override
+        public synchronized void push(E e) { stack.push(e); }
+        @Override
+        public synchronized E top() { return stack.top(); }
+        @Override
+        public synchronized E pop() { return stack.pop(); }
+    }
+    //---------- END OF NESTED SYNCHRONIZED STACK CLASS ------------
+
+
+    // PARAMETERS
+
+    @Param({"TreiberStack", "EliminationBackoffStack", "SynchronizedArrayStack"})
+    public String impl;
+
+
+    // STATE
+
+    private StackInterface<Integer> stack;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = create(impl);
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(element);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void pushPop(Blackhole bh) {
+        stack.push(element);
+        bh.consume(stack.pop());
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation
+    static StackInterface<Integer> create(String impl) {
+        switch (impl) {
+            case "TreiberStack":
+                return new TreiberStack<>();
+            case "EliminationBackoffStack":
+                return new EliminationBackoffStack<>();
+            case "SynchronizedArrayStack":
+                return new SynchronizedArrayStack<>(2 * PREFILL);
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + impl);
+        }
+    }
+
+
+    // ENTRY POINT
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.runThreadSweep(ConcurrentStackBenchmark.class.getSimpleName(), THREADS);
+    }
+}
@@ -0,0 +1,93 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    DEQUE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing every DequeInterface implementation.
+    - The deque is pre-filled with `size` elements, then each invocation performs one
+      add at one end and one remove at the opposite end, so the deque is used as a
+      queue flowing in either direction at a steady occupancy.
+
+    Parameters:
+    - impl: Name of the DequeInterface implementation under test
+    - size: Number of elements held by the deque while measuring (10 to 10M)
+
+    Benchmarks:
+    - addFirstRemoveLast(): Throughput of an addFirst/removeLast pair
+    - addLastRemoveFirst(): Throughput of an addLast/removeFirst pair
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class DequeBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"ArrayDeque", "GrowableArrayDeque", "DoublyLinkedListDeque"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+
+    // STATE
+
+    private DequeInterface<Integer> deque;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deque = create(impl, size + 1);
+        for (int i = 0; i < size; i++) {
+            deque.addLast(element);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void addFirstRemoveLast(Blackhole bh) {
+        deque.addFirst(element);
+        bh.consume(deque.removeLast());
+    }
+
+    @Benchmark
+    public void addLastRemoveFirst(Blackhole bh) {
+        deque.addLast(element);
+        bh.consume(deque.removeFirst());
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation, able to hold at least the given number of elements
+    static DequeInterface<Integer> create(String impl, int capacity) {
+        switch (impl) {
+            case "ArrayDeque":
+                return new ArrayDeque<>(capacity);
+            case "GrowableArrayDeque":
+                return new ArrayDeque<>(16, true);          // Starts small and grows while pre-filling
+            case "DoublyLinkedListDeque":
+                return new DoublyLinkedListDeque<>();
+            default:
+                throw new IllegalArgumentException("Unknown deque implementation: " + impl);
+        }
+    }
+}
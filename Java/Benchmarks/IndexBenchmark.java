@@ -0,0 +1,116 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    INDEX BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing lookups through the read-optimized indexes (StaticBTree and
+      PgmIndex) with a plain BinarySearch over the same sorted int[].
+    - Keys are either uniformly random or "clustered" (random gaps drawn from a skewed
+      distribution), which changes how many segments the PGM index needs.
+    - Memory footprints of both indexes are printed once per trial, so the lookup speed
+      can be weighed against the extra space.
+
+    Parameters:
+    - size: Number of keys
+    - distribution: uniform or clustered
+    - epsilon: Error bound of the PGM index
+
+    Benchmarks:
+    - binarySearch: BinarySearch.binarySearch
+    - staticBTree: StaticBTree.search
+    - pgmIndex: PgmIndex.search
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IndexBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"1048576", "67108864"})
+    public int size;
+
+    @Param({"uniform", "clustered"})
+    public String distribution;
+
+    @Param({"32", "128"})
+    public int epsilon;
+
+
+    // STATE
+
+    private static final int KEY_COUNT = 1 << 16;
+
+    private int[] array;
+    private StaticBTree tree;
+    private PgmIndex pgm;
+    private int[] keys;
+    private int next;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        array = new int[size];
+        if (distribution.equals("uniform")) {
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt();
+            }
+            Arrays.sort(array);
+        }
+        else {
+            int key = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                int gap = (random.nextInt(100) == 0) ? random.nextInt(1 << 16) : random.nextInt(4);
+                key = (key > Integer.MAX_VALUE - gap) ? key : key + gap;
+                array[i] = key;
+            }
+        }
+        tree = new StaticBTree(array);
+        pgm = new PgmIndex(array, epsilon);
+        keys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = (i % 2 == 0) ? array[random.nextInt(size)] : random.nextInt();
+        }
+        System.out.println("\nStaticBTree: " + tree.memoryFootprint() + " bytes, PgmIndex: "
+                + pgm.memoryFootprint() + " bytes (" + pgm.segments() + " segments)");
+    }
+
+    private int nextKey() {
+        return keys[next++ & (KEY_COUNT - 1)];
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public int binarySearch() {
+        return BinarySearch.binarySearch(array, nextKey());
+    }
+
+    @Benchmark
+    public int staticBTree() {
+        return tree.search(nextKey());
+    }
+
+    @Benchmark
+    public int pgmIndex() {
+        return pgm.search(nextKey());
+    }
+}
@@ -0,0 +1,122 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    LIST EDIT BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of insert/remove edits in the middle of ListInterface implementations.
+    - Each invocation inserts one element at an index and removes the element at the
+      same index, so the list keeps its size. The indices follow one of three patterns:
+        * random:     Uniformly random positions
+        * sequential: A position that advances by one each edit, wrapping at the end
+        * cursor:     A cursor doing a small random walk (+/- up to 8 positions)
+    - Index sequences are generated up front so the benchmark measures only the edits.
+
+    Parameters:
+    - impl:    Name of the ListInterface implementation under test
+    - size:    Number of elements in the list
+    - pattern: Edit position pattern (random, sequential, cursor)
+
+    Benchmarks:
+    - insertRemove(): Throughput of one add(i, e)/remove(i) pair
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ListEditBenchmark {
+
+    public static final int INDEX_COUNT = 1 << 16;  // Length of the precomputed index sequence
+
+
+    // PARAMETERS
+
+    @Param({"ArrayList", "GapList", "TieredList"})
+    public String impl;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"random", "sequential", "cursor"})
+    public String pattern;
+
+
+    // STATE
+
+    private ListInterface<Integer> list;
+    private int[] indices;
+    private int next = 0;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = create(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i, element);
+        }
+        indices = indices(pattern, size, new Random(42));
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public Integer insertRemove() {
+        int i = indices[next++ & (INDEX_COUNT - 1)];
+        list.add(i, element);
+        return list.remove(i);
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation
+    static ListInterface<Integer> create(String impl) {
+        switch (impl) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "GapList":
+                return new GapList<>();
+            case "TieredList":
+                return new TieredList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+
+    // Generates INDEX_COUNT edit positions in [0, size) following the named pattern
+    static int[] indices(String pattern, int size, Random random) {
+        int[] result = new int[INDEX_COUNT];
+        int cursor = size / 2;
+        for (int k = 0; k < INDEX_COUNT; k++) {
+            switch (pattern) {
+                case "random":
+                    result[k] = random.nextInt(size);
+                    break;
+                case "sequential":
+                    result[k] = (size / 2 + k) % size;
+                    break;
+                case "cursor":
+                    cursor = Math.floorMod(cursor + random.nextInt(17) - 8, size);
+                    result[k] = cursor;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown pattern: " + pattern);
+            }
+        }
+        return result;
+    }
+}
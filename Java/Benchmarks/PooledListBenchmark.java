@@ -0,0 +1,95 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    POOLED LIST BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing the node-per-element linked lists with their pooled,
+      array-backed counterparts.
+    - Each list is pre-filled with `size` elements, then each invocation adds one
+      element at the tail and removes one from the head (queue usage), so the list
+      stays at a steady size.
+    - Run with the GC profiler (see BenchmarkRunner): gc.alloc.rate.norm should be 0
+      bytes/op for the pooled lists and one node (24-32 bytes/op) for the others.
+
+    Parameters:
+    - size: Number of elements held while measuring
+
+    Benchmarks:
+    - singlyLinkedList / pooledSinglyLinkedList: addLast then removeFirst
+    - doublyLinkedList / pooledDoublyLinkedList: addLast then removeFirst
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PooledListBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"10", "1000", "1000000"})
+    public int size;
+
+
+    // STATE
+
+    private SinglyLinkedList<Integer> singly;
+    private PooledSinglyLinkedList<Integer> pooledSingly;
+    private DoublyLinkedList<Integer> doubly;
+    private PooledDoublyLinkedList<Integer> pooledDoubly;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        singly = new SinglyLinkedList<>();
+        pooledSingly = new PooledSinglyLinkedList<>(size + 1);
+        doubly = new DoublyLinkedList<>();
+        pooledDoubly = new PooledDoublyLinkedList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            singly.addLast(element);
+            pooledSingly.addLast(element);
+            doubly.addLast(element);
+            pooledDoubly.addLast(element);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public Integer singlyLinkedList() {
+        singly.addLast(element);
+        return singly.removeFirst();
+    }
+
+    @Benchmark
+    public Integer pooledSinglyLinkedList() {
+        pooledSingly.addLast(element);
+        return pooledSingly.removeFirst();
+    }
+
+    @Benchmark
+    public Integer doublyLinkedList() {
+        doubly.addLast(element);
+        return doubly.removeFirst();
+    }
+
+    @Benchmark
+    public Integer pooledDoublyLinkedList() {
+        pooledDoubly.addLast(element);
+        return pooledDoubly.removeFirst();
+    }
+}
@@ -0,0 +1,115 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    PRIMITIVE COLLECTION BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing the primitive-specialized stack/queue/deque against their
+      generic counterparts holding boxed values.
+    - Each collection is pre-filled with `size` elements, then each invocation performs
+      one add and one remove. The value added changes every call and stays outside the
+      Integer/Long cache, so the generic versions box (allocate) on every add.
+    - Run with the GC profiler (see BenchmarkRunner): gc.alloc.rate.norm should be ~0
+      bytes/op for IntArrayStack, LongArrayQueue and IntArrayDeque in steady state, and
+      ~16 bytes/op (one box) for the generic versions.
+
+    Parameters:
+    - size: Number of elements held while measuring
+
+    Benchmarks:
+    - intArrayStack / boxedArrayStack: push then pop
+    - longArrayQueue / boxedArrayQueue: enqueue then dequeue
+    - intArrayDeque / boxedArrayDeque: addFirst then removeLast
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveCollectionBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+
+    // STATE
+
+    private IntArrayStack intStack;
+    private ArrayStack<Integer> boxedStack;
+    private LongArrayQueue longQueue;
+    private ArrayQueue<Long> boxedQueue;
+    private IntArrayDeque intDeque;
+    private ArrayDeque<Integer> boxedDeque;
+    private int next = 1 << 20;                     // Outside the Integer/Long cache
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        intStack = new IntArrayStack(size + 1);
+        boxedStack = new ArrayStack<>(size + 1);
+        longQueue = new LongArrayQueue(size + 1);
+        boxedQueue = new ArrayQueue<>(size + 1);
+        intDeque = new IntArrayDeque(size + 1);
+        boxedDeque = new ArrayDeque<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            intStack.push(i);
+            boxedStack.push(i);
+            longQueue.enqueue(i);
+            boxedQueue.enqueue((long) i);
+            intDeque.addLast(i);
+            boxedDeque.addLast(i);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public int intArrayStack() {
+        intStack.push(next++);
+        return intStack.popInt();
+    }
+
+    @Benchmark
+    public Integer boxedArrayStack() {
+        boxedStack.push(next++);
+        return boxedStack.pop();
+    }
+
+    @Benchmark
+    public long longArrayQueue() {
+        longQueue.enqueue(next++);
+        return longQueue.dequeueLong();
+    }
+
+    @Benchmark
+    public Long boxedArrayQueue() {
+        boxedQueue.enqueue((long) next++);
+        return boxedQueue.dequeue();
+    }
+
+    @Benchmark
+    public int intArrayDeque() {
+        intDeque.addFirst(next++);
+        return intDeque.removeLastInt();
+    }
+
+    @Benchmark
+    public Integer boxedArrayDeque() {
+        boxedDeque.addFirst(next++);
+        return boxedDeque.removeLast();
+    }
+}
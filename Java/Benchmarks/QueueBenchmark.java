@@ -0,0 +1,88 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    QUEUE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing every QueueInterface implementation.
+    - The queue is pre-filled with `size` elements, then each invocation performs one
+      enqueue followed by one dequeue, so the queue keeps cycling through its storage
+      at a steady occupancy.
+
+    Parameters:
+    - impl: Name of the QueueInterface implementation under test
+    - size: Number of elements held by the queue while measuring (10 to 10M)
+
+    Benchmarks:
+    - enqueueDequeue(): Throughput of an enqueue/dequeue pair
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class QueueBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"ArrayQueue", "GrowableArrayQueue", "LinkedQueue", "UnrolledQueue"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+
+    // STATE
+
+    private QueueInterface<Integer> queue;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = create(impl, size + 1);
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(element);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void enqueueDequeue(Blackhole bh) {
+        queue.enqueue(element);
+        bh.consume(queue.dequeue());
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation, able to hold at least the given number of elements
+    static QueueInterface<Integer> create(String impl, int capacity) {
+        switch (impl) {
+            case "ArrayQueue":
+                return new ArrayQueue<>(capacity);
+            case "GrowableArrayQueue":
+                return new ArrayQueue<>(16, true);          // Starts small and grows while pre-filling
+            case "LinkedQueue":
+                return new LinkedQueue<>();
+            case "UnrolledQueue":
+                return new UnrolledQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    ROUND-ROBIN BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of round-robin dispatch over the CircularQueueInterface
+      implementations, holding `size` participants.
+    - Every participant is a small counter; dispatching to it means incrementing its
+      counter, so the benchmark also pays for visiting the element (pointer chasing for
+      the linked queue, sequential reads for the ring).
+    - Implementations:
+        * LinkedCircularQueue
+        * ArrayCircularQueue: trimmed after filling, so the ring is full and every
+          rotation only moves the front index
+        * ArrayCircularQueueWithSlack: same queue with free slots (array twice the
+          size), so rotations copy elements across the gap
+
+    Parameters:
+    - impl: Name of the CircularQueueInterface implementation under test
+    - size: Number of participants (10k to 1M)
+
+    Benchmarks:
+    - dispatch(): Serve the front participant, then rotate() it to the back
+    - skip(): Serve the front participant, then rotate(SKIP) past the next SKIP - 1,
+      e.g. a scheduler that hands out work in strides
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class RoundRobinBenchmark {
+
+    public static final int SKIP = 64;              // Rotation distance of skip()
+
+
+    // PARAMETERS
+
+    @Param({"LinkedCircularQueue", "ArrayCircularQueue", "ArrayCircularQueueWithSlack"})
+    public String impl;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+
+    // STATE
+
+    private CircularQueueInterface<int[]> queue;    // Each participant is a one-element counter
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (impl) {
+            case "LinkedCircularQueue":
+                queue = new LinkedCircularQueue<>();
+                break;
+            case "ArrayCircularQueue":
+            case "ArrayCircularQueueWithSlack":
+                queue = new ArrayCircularQueue<>(2 * size);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown circular queue implementation: " + impl);
+        }
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(new int[1]);
+        }
+        if (impl.equals("ArrayCircularQueue")) {
+            ((ArrayCircularQueue<int[]>) queue).trimToSize();
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public int dispatch() {
+        int[] participant = queue.first();
+        queue.rotate();
+        return ++participant[0];
+    }
+
+    @Benchmark
+    public int skip() {
+        int[] participant = queue.first();
+        queue.rotate(SKIP);
+        return ++participant[0];
+    }
+}
@@ -0,0 +1,144 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    SCHEDULER BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH throughput benchmark of DeficitRoundRobinScheduler with PARTICIPANTS tenants
+      of random weight 1 to MAX_WEIGHT (fixed seed), over both circular queues.
+    - The array-backed scheduler's queue is trimmed after setup so rotations are O(1);
+      churn makes it grow again, as it would in production.
+    - The fairness index and the largest scheduling gap seen by a sample of participants
+      are reported as the secondary metrics fairnessIndex and maxGap (averaged over the
+      iterations, in the JSON results too), to confirm the scores are for a fair schedule.
+      Under churn the index stays low by design: the tenants that replaced removed ones
+      have only been served since they joined.
+
+    Parameters:
+    - queue: CircularQueueInterface implementation behind the scheduler
+
+    Benchmarks:
+    - next(): One unit-cost slot per call
+    - nextBatch(): BATCH slots per call (score is per slot)
+    - churn(): One slot, plus removing a random participant and adding a new one
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SchedulerBenchmark {
+
+    public static final int PARTICIPANTS = 100_000;
+    public static final int MAX_WEIGHT = 8;
+    public static final int BATCH = 256;
+    private static final int SAMPLE = 1024;         // Participants whose gaps are reported
+
+
+    //-------------- NESTED FAIRNESS CLASS ---------------
+    // How fair the schedule was at the end of an iteration
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Fairness {
+
+        public double fairnessIndex;                // Reported (averaged over iterations)
+        public double maxGap;                       // In slots
+        private double weight;
+
+        @Setup(Level.Iteration)
+        public void start(BenchmarkParams benchmark, IterationParams iteration) {
+            weight = BenchmarkRunner.averagingWeight(benchmark, iteration);
+        }
+
+        void record(double index, long gap) {
+            fairnessIndex = weight * index;
+            maxGap = weight * gap;
+        }
+    }
+    //---------- END OF NESTED FAIRNESS CLASS ------------
+
+
+    // PARAMETERS
+
+    @Param({"ArrayCircularQueue", "LinkedCircularQueue"})
+    public String queue;
+
+
+    // STATE
+
+    private DeficitRoundRobinScheduler<Integer> scheduler;
+    private DeficitRoundRobinScheduler.Participant<Integer>[] handles;  // Handle of each tenant id
+    private final Integer[] batch = new Integer[BATCH];
+    private final Random random = new Random(42);
+    private int nextId;
+
+
+    // SETUP
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        CircularQueueInterface<DeficitRoundRobinScheduler.Participant<Integer>> q;
+        switch (queue) {
+            case "ArrayCircularQueue":
+                q = new ArrayCircularQueue<>(PARTICIPANTS);
+                break;
+            case "LinkedCircularQueue":
+                q = new LinkedCircularQueue<>();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown circular queue implementation: " + queue);
+        }
+        scheduler = new DeficitRoundRobinScheduler<>(q);
+        handles = new DeficitRoundRobinScheduler.Participant[PARTICIPANTS];
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            handles[i] = scheduler.add(i, 1 + random.nextInt(MAX_WEIGHT));
+        }
+        nextId = PARTICIPANTS;
+        if (q instanceof ArrayCircularQueue) {
+            ((ArrayCircularQueue<?>) q).trimToSize();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(Fairness fairness) {
+        long maxGap = 0;
+        for (int i = 0; i < SAMPLE; i++) {
+            maxGap = Math.max(maxGap, handles[i * (PARTICIPANTS / SAMPLE)].maxGap());
+        }
+        fairness.record(scheduler.fairnessIndex(), maxGap);
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public Integer next() {
+        return scheduler.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int nextBatch() {
+        return scheduler.next(BATCH, batch);
+    }
+
+    @Benchmark
+    public Integer churn() {
+        int slot = random.nextInt(PARTICIPANTS);
+        scheduler.remove(handles[slot]);
+        handles[slot] = scheduler.add(nextId++, 1 + random.nextInt(MAX_WEIGHT));
+        return scheduler.next();
+    }
+}
@@ -0,0 +1,113 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    SEARCH BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing the search family on a sorted int[] of random keys.
+    - Sizes are picked so the array fits in L1 (4 KB), in L3 (4 MB) or only in main
+      memory (256 MB). Branch mispredictions dominate the small case; cache misses
+      dominate the large one, which is where the Eytzinger layout pulls ahead.
+    - Each invocation looks up the next key from a pre-generated list of random keys
+      (half present in the array, half random), so every lookup hits a different part of
+      the array.
+
+    Parameters:
+    - size: Number of keys in the array
+
+    Benchmarks:
+    - binarySearch: classic branchy BinarySearch
+    - arraysBinarySearch: java.util.Arrays.binarySearch baseline
+    - branchlessLowerBound: BranchlessBinarySearch.lowerBound
+    - exponentialLowerBound: ExponentialSearch.lowerBound from the front
+    - interpolationSearch: InterpolationSearch.search
+    - eytzingerLowerBound: EytzingerSearch.lowerBound
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"1024", "1048576", "67108864"})     // L1, L3, RAM
+    public int size;
+
+
+    // STATE
+
+    private static final int KEY_COUNT = 1 << 16;
+
+    private int[] array;
+    private EytzingerSearch eytzinger;
+    private int[] keys;
+    private int next;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt();
+        }
+        Arrays.sort(array);
+        eytzinger = new EytzingerSearch(array);
+        keys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = (i % 2 == 0) ? array[random.nextInt(size)] : random.nextInt();
+        }
+    }
+
+    private int nextKey() {
+        return keys[next++ & (KEY_COUNT - 1)];
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public int binarySearch() {
+        return BinarySearch.binarySearch(array, nextKey());
+    }
+
+    @Benchmark
+    public int arraysBinarySearch() {
+        return Arrays.binarySearch(array, nextKey());
+    }
+
+    @Benchmark
+    public int branchlessLowerBound() {
+        return BranchlessBinarySearch.lowerBound(array, nextKey());
+    }
+
+    @Benchmark
+    public int exponentialLowerBound() {
+        return ExponentialSearch.lowerBound(array, nextKey());
+    }
+
+    @Benchmark
+    public int interpolationSearch() {
+        return InterpolationSearch.search(array, nextKey());
+    }
+
+    @Benchmark
+    public int eytzingerLowerBound() {
+        return eytzinger.lowerBound(nextKey());
+    }
+}
@@ -0,0 +1,225 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    SORT BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing IntroSort, MergeSort and ParallelMergeSort against the JDK's
+      Arrays.sort and Arrays.parallelSort.
+    - A fresh copy of the unsorted input is made before every invocation (outside the
+      measured time), so every call sorts the same data from scratch.
+    - The input is either uniformly random or "nearly sorted" (sorted, then 1% of the
+      positions swapped at random), the case where the run-detecting MergeSort shines.
+    - ParallelMergeSort and Arrays.parallelSort use the common ForkJoinPool; run on a
+      machine with several cores to see them scale.
+
+    Parameters:
+    - type: Element type sorted - int, long, double or object (Integer[] with a Comparator)
+    - size: Number of elements
+    - input: random or nearlySorted
+
+    Benchmarks:
+    - introSort, mergeSort, parallelMergeSort: the algorithms in this repo
+    - arraysSort, arraysParallelSort: java.util.Arrays baselines
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"int", "long", "double", "object"})
+    public String type;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"random", "nearlySorted"})
+    public String input;
+
+
+    // STATE
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    private int[] sourceInts;
+    private long[] sourceLongs;
+    private double[] sourceDoubles;
+    private Integer[] sourceObjects;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private Integer[] objects;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        sourceInts = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceInts[i] = random.nextInt();
+        }
+        if (input.equals("nearlySorted")) {
+            Arrays.sort(sourceInts);
+            for (int k = 0; k < size / 100; k++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                int temp = sourceInts[i];
+                sourceInts[i] = sourceInts[j];
+                sourceInts[j] = temp;
+            }
+        }
+        switch (type) {
+            case "long":
+                sourceLongs = new long[size];
+                for (int i = 0; i < size; i++) {
+                    sourceLongs[i] = (long) sourceInts[i] << 16;
+                }
+                break;
+            case "double":
+                sourceDoubles = new double[size];
+                for (int i = 0; i < size; i++) {
+                    sourceDoubles[i] = sourceInts[i] / 3.0;
+                }
+                break;
+            case "object":
+                sourceObjects = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    sourceObjects[i] = sourceInts[i];
+                }
+                break;
+            case "int":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        switch (type) {
+            case "int":
+                ints = sourceInts.clone();
+                break;
+            case "long":
+                longs = sourceLongs.clone();
+                break;
+            case "double":
+                doubles = sourceDoubles.clone();
+                break;
+            default:
+                objects = sourceObjects.clone();
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public Object introSort() {
+        switch (type) {
+            case "int":
+                IntroSort.introSort(ints);
+                return ints;
+            case "long":
+                IntroSort.introSort(longs);
+                return longs;
+            case "double":
+                IntroSort.introSort(doubles);
+                return doubles;
+            default:
+                IntroSort.introSort(objects, ORDER);
+                return objects;
+        }
+    }
+
+    @Benchmark
+    public Object mergeSort() {
+        switch (type) {
+            case "int":
+                MergeSort.mergeSort(ints);
+                return ints;
+            case "long":
+                MergeSort.mergeSort(longs);
+                return longs;
+            case "double":
+                MergeSort.mergeSort(doubles);
+                return doubles;
+            default:
+                MergeSort.mergeSort(objects, ORDER);
+                return objects;
+        }
+    }
+
+    @Benchmark
+    public Object parallelMergeSort() {
+        switch (type) {
+            case "int":
+                ParallelMergeSort.parallelMergeSort(ints);
+                return ints;
+            case "long":
+                ParallelMergeSort.parallelMergeSort(longs);
+                return longs;
+            case "double":
+                ParallelMergeSort.parallelMergeSort(doubles);
+                return doubles;
+            default:
+                ParallelMergeSort.parallelMergeSort(objects, ORDER);
+                return objects;
+        }
+    }
+
+    @Benchmark
+    public Object arraysSort() {
+        switch (type) {
+            case "int":
+                Arrays.sort(ints);
+                return ints;
+            case "long":
+                Arrays.sort(longs);
+                return longs;
+            case "double":
+                Arrays.sort(doubles);
+                return doubles;
+            default:
+                Arrays.sort(objects, ORDER);
+                return objects;
+        }
+    }
+
+    @Benchmark
+    public Object arraysParallelSort() {
+        switch (type) {
+            case "int":
+                Arrays.parallelSort(ints);
+                return ints;
+            case "long":
+                Arrays.parallelSort(longs);
+                return longs;
+            case "double":
+                Arrays.parallelSort(doubles);
+                return doubles;
+            default:
+                Arrays.parallelSort(objects, ORDER);
+                return objects;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/*
+    SPSC QUEUE BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of one producer thread handing elements to one consumer thread.
+    - Each group runs a producer and a consumer method concurrently on a shared queue:
+        * spsc:        SpscArrayQueue, one element per offer/dequeue
+        * spscBatched: SpscArrayQueue, `batch` elements per fill/drain
+        * mpmc:        LockFreeArrayQueue, one element per offer/dequeue (CAS baseline)
+    - Throughput is reported per method; the consumer's score is the transfer rate.
+
+    Parameters:
+    - batch: Maximum number of elements moved per fill/drain call
+
+    Benchmarks:
+    - spsc / spscBatched / mpmc groups, each with a producer and a consumer method
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+
+    public static final int CAPACITY = 1 << 14;
+
+
+    // PARAMETERS
+
+    @Param({"16", "256"})
+    public int batch;
+
+
+    // STATE
+
+    private SpscArrayQueue<Integer> spsc;
+    private LockFreeArrayQueue<Integer> mpmc;
+    private final Integer element = 42;             // Reused so boxing is not measured
+    private final Supplier<Integer> supplier = () -> element;
+
+
+    // SETUP
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        spsc = new SpscArrayQueue<>(CAPACITY);
+        mpmc = new LockFreeArrayQueue<>(CAPACITY);
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscProducer() {
+        return spsc.offer(element);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscConsumer() {
+        return spsc.dequeue();
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public int spscBatchedProducer() {
+        return spsc.fill(supplier, batch);
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public int spscBatchedConsumer(Blackhole bh) {
+        Consumer<Integer> sink = bh::consume;
+        return spsc.drain(sink, batch);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(1)
+    public boolean mpmcProducer() {
+        return mpmc.offer(element);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(1)
+    public Integer mpmcConsumer() {
+        return mpmc.dequeue();
+    }
+}
@@ -0,0 +1,87 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    STACK BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark comparing every StackInterface implementation.
+    - The stack is pre-filled with `size` elements, then each invocation performs one
+      push followed by one pop, so the measurement is taken at a steady occupancy.
+
+    Parameters:
+    - impl: Name of the StackInterface implementation under test
+    - size: Number of elements held by the stack while measuring (10 to 10M)
+
+    Benchmarks:
+    - pushPop(): Throughput of a push/pop pair at the top of the stack
+ */
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class StackBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"ArrayStack", "GrowableArrayStack", "LinkedStack", "UnrolledStack"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+
+    // STATE
+
+    private StackInterface<Integer> stack;
+    private final Integer element = 42;             // Reused so boxing is not measured
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = create(impl, size + 1);
+        for (int i = 0; i < size; i++) {
+            stack.push(element);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void pushPop(Blackhole bh) {
+        stack.push(element);
+        bh.consume(stack.pop());
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Creates the named implementation, able to hold at least the given number of elements
+    static StackInterface<Integer> create(String impl, int capacity) {
+        switch (impl) {
+            case "ArrayStack":
+                return new ArrayStack<>(capacity);
+            case "GrowableArrayStack":
+                return new ArrayStack<>(16, GrowthPolicyInterface.doubling());  // Grows while pre-filling
+            case "LinkedStack":
+                return new LinkedStack<>();
+            case "UnrolledStack":
+                return new UnrolledStack<>();
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + impl);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.dsahub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    WORK-STEALING BENCHMARK
+    ------------------------------------------------------------------------------------
+    Description:
+    - JMH benchmark of task throughput for WorkStealingExecutor against ForkJoinPool,
+      both with one worker per available processor.
+    - Each invocation submits a single root task that recursively spawns a binary tree
+      of tasks `depth` levels deep: every inner task submits its two children from
+      inside the pool (so they go on the worker's own deque), every leaf counts down a
+      latch. The invocation ends when all 2^depth leaves have run, so the score is the
+      time to schedule and run 2^(depth + 1) - 1 tiny tasks.
+    - ForkJoinPool.execute from inside a worker also pushes on the worker's local queue,
+      so both pools are exercised the same way.
+
+    Parameters:
+    - impl: WorkStealingExecutor or ForkJoinPool
+    - depth: Depth of the task tree
+
+    Benchmarks:
+    - spawnTree: Time to run one complete task tree
+ */
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WorkStealingBenchmark {
+
+
+    // PARAMETERS
+
+    @Param({"WorkStealingExecutor", "ForkJoinPool"})
+    public String impl;
+
+    @Param({"12", "18"})
+    public int depth;
+
+
+    // STATE
+
+    private Executor executor;
+
+
+    // SETUP
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        switch (impl) {
+            case "WorkStealingExecutor":
+                executor = new WorkStealingExecutor(parallelism);
+                break;
+            case "ForkJoinPool":
+                executor = new ForkJoinPool(parallelism);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + impl);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (executor instanceof WorkStealingExecutor) {
+            ((WorkStealingExecutor) executor).shutdown();
+            ((WorkStealingExecutor) executor).awaitTermination(10, TimeUnit.SECONDS);
+        }
+        else {
+            ((ForkJoinPool) executor).shutdown();
+            ((ForkJoinPool) executor).awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+
+    // BENCHMARKS
+
+    @Benchmark
+    public void spawnTree() throws InterruptedException {
+        CountDownLatch leaves = new CountDownLatch(1 << depth);
+        executor.execute(new Spawn(executor, depth, leaves));
+        leaves.await();
+    }
+
+
+    //-------------- NESTED SPAWN TASK CLASS ---------------
+    // Inner node of the task tree: spawns two children, or counts down when a leaf
+    private static final class Spawn implements Runnable {
+
+        private final Executor executor;
+        private final int level;
+        private final CountDownLatch leaves;
+
+        Spawn(Executor executor, int level, CountDownLatch leaves) {
+            this.executor = executor;
+            this.level = level;
+            this.leaves = leaves;
+        }
+
+        @Override
+        public void run() {
+            if (level == 0) {
+                leaves.countDown();
+                return;
+            }
+            executor.execute(new Spawn(executor, level - 1, leaves));
+            executor.execute(new Spawn(executor, level - 1, leaves));
+        }
+    }
+    //---------- END OF NESTED SPAWN TASK CLASS ------------
+}
@@ -0,0 +1,54 @@
+package org.dsahub;
+
+
+/*
+    CACHE INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - An interface for bounded key-value caches. A cache holds at most capacity()
+      entries; adding a new key to a full cache makes the eviction policy drop an entry
+      (or, for admission-controlled policies, possibly the new entry itself).
+    - get() is the access that the policies learn from: it updates recency/frequency
+      and is counted as a hit or a miss in the cache's CacheStats. containsKey() does
+      neither, so it can be used to inspect the cache without disturbing it.
+    - Null keys and values are not allowed, since null means "not cached" for get().
+
+    Methods:
+    - size(): Returns the number of cached entries.
+    - isEmpty(): Tests whether the cache is empty.
+    - capacity(): Returns the maximum number of entries.
+    - get(K key): Returns the cached value (null on a miss), recording the access.
+    - put(K key, V value): Caches the value, returning the previous one (or null).
+    - remove(K key): Removes the entry, returning its value (or null).
+    - containsKey(K key): Tests whether the key is cached, without recording an access.
+    - stats(): Returns the hit, miss and eviction counters.
+*/
+
+
+public interface CacheInterface<K, V> {
+
+    // Returns the number of cached entries
+    int size();
+
+    // Tests whether the cache is empty
+    boolean isEmpty();
+
+    // Returns the maximum number of entries the cache holds
+    int capacity();
+
+    // Returns the value cached for key (null on a miss); counts as an access
+    V get(K key);
+
+    // Caches value under key, evicting an entry if needed; returns the previous value (or null)
+    V put(K key, V value);
+
+    // Removes the entry for key and returns its value (or null if it was not cached)
+    V remove(K key);
+
+    // Tests whether key is cached, without counting an access
+    boolean containsKey(K key);
+
+    // Returns the statistics of this cache
+    CacheStats stats();
+
+}
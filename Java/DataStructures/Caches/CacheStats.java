@@ -0,0 +1,106 @@
+package org.dsahub;
+
+
+/*
+    CACHE STATS
+    ------------------------------------------------------------------------------------
+    Description:
+    - Counters kept by every CacheInterface implementation:
+        * hits / misses: outcomes of get()
+        * evictions: entries dropped to make room (including new entries an admission
+          policy refused to keep)
+        * rejections: the part of the evictions where the admission policy refused a
+          new entry rather than dropping an old one
+    - The caches update the counters through package-private record methods; users
+      read them, derive hit and miss rates, and may reset them (for example after a
+      warm-up phase).
+
+    Operation/Methods:
+    - hits() / misses() / requests(): Counts of get() outcomes
+    - hitRate() / missRate(): Fractions of requests (0 if there were none)
+    - evictions() / rejections()
+    - reset(): Sets every counter back to zero
+
+ */
+
+
+public class CacheStats {
+
+
+    // INSTANCE VARIABLES
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long rejections = 0;
+
+
+    // ACCESS METHODS
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return (requests == 0) ? 0 : (double) hits / requests;
+    }
+
+    public double missRate() {
+        long requests = requests();
+        return (requests == 0) ? 0 : (double) misses / requests;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long rejections() {
+        return rejections;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.4f, evictions=%d, rejections=%d",
+                hits, misses, hitRate(), evictions, rejections);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    public void reset() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        rejections = 0;
+    }
+
+
+    // PACKAGE-PRIVATE UPDATE METHODS (used by the caches)
+
+    void recordHit() {
+        hits++;
+    }
+
+    void recordMiss() {
+        misses++;
+    }
+
+    void recordEviction() {
+        evictions++;
+    }
+
+    // A rejected new entry is also an eviction
+    void recordRejection() {
+        evictions++;
+        rejections++;
+    }
+}
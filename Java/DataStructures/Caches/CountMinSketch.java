@@ -0,0 +1,139 @@
+package org.dsahub;
+
+import java.util.Arrays;
+
+
+/*
+    COUNT-MIN SKETCH
+    ------------------------------------------------------------------------------------
+    Description:
+    - A compact, approximate frequency counter: it estimates how often each key was seen
+      using a fixed amount of memory, no matter how many distinct keys there are.
+    - DEPTH rows of `width` small counters. A key is hashed to one counter per row:
+        * increment(key) raises its counters (conservative update: only those equal to
+          the key's current minimum, which reduces overestimation);
+        * frequency(key) is the minimum of its counters.
+      Collisions can only add to a counter, so the estimate never undercounts (until
+      aging), and taking the minimum over rows keeps the error small.
+    - Counters saturate at MAX_COUNT (4 bits' worth, as in W-TinyLFU): the admission
+      policy only needs to tell "rare" from "popular".
+    - Aging: after `sampleSize` increments every counter is halved, so the sketch
+      forgets old popularity and follows a changing workload.
+
+    Characteristics:
+    - Time complexity:
+        * increment / frequency: O(DEPTH) = O(1)
+        * Aging: O(width), once every sampleSize increments (O(1) amortized)
+    - Space complexity: DEPTH * width bytes
+    - Use cases: Admission policies (W-TinyLFU), heavy-hitter detection.
+
+    - Advantages: Constant memory and time; no per-key storage.
+    - Disadvantages: Approximate; counts are capped at MAX_COUNT.
+
+    Operation/Methods:
+    - width(): Counters per row
+    - increment(Object key): Records one occurrence of key
+    - frequency(Object key): Estimated occurrences of key (0 to MAX_COUNT)
+    - clear(): Sets every counter to zero
+
+ */
+
+
+public class CountMinSketch {
+
+    public static final int DEPTH = 4;              // Rows (independent hash functions)
+    public static final int MAX_COUNT = 15;         // Counters saturate here
+
+
+    // INSTANCE VARIABLES
+
+    private final byte[] table;                     // DEPTH rows of width counters, row after row
+    private final int mask;                         // width - 1 (width is a power of two)
+    private final int sampleSize;                   // Increments between two agings
+    private int additions = 0;                      // Increments since the last aging
+
+
+    // CONSTRUCTORS
+
+    // Constructs a sketch sized for tracking about `expectedKeys` keys
+    public CountMinSketch(int expectedKeys) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("Expected keys must be positive");
+        }
+        int width = ArrayQueue.ceilingPowerOfTwo(Math.min(Math.max(expectedKeys, 16), ArrayQueue.MAX_CAPACITY / DEPTH));
+        table = new byte[DEPTH * width];
+        mask = width - 1;
+        sampleSize = (int) Math.min(10L * width, Integer.MAX_VALUE);
+    }
+
+
+    // ACCESS METHODS
+
+    public int width() {
+        return mask + 1;
+    }
+
+    // Returns the estimated number of occurrences of key (at most MAX_COUNT)
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, table[slot(hash, row)]);
+        }
+        return min;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Records one occurrence of key
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, table[slot(hash, row)]);
+        }
+        if (min < MAX_COUNT) {
+            for (int row = 0; row < DEPTH; row++) {
+                int slot = slot(hash, row);
+                if (table[slot] == min) {       // Conservative update: raise only the minimum
+                    table[slot]++;
+                }
+            }
+        }
+        if (++additions == sampleSize) {
+            age();
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(table, (byte) 0);
+        additions = 0;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Halves every counter, so old occurrences count for less
+    private void age() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (byte) (table[i] >>> 1);
+        }
+        additions >>>= 1;
+    }
+
+    // Index of key's counter in the given row (double hashing over a spread hash)
+    private int slot(int hash, int row) {
+        int h = hash + row * ((hash >>> 16) | 1) * 0x9E3779B9;
+        h ^= h >>> 15;
+        return row * (mask + 1) + (h & mask);
+    }
+
+    // Scrambles a hash code so nearby codes (e.g. small Integers) land far apart
+    private static int spread(int h) {
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,215 @@
+package org.dsahub;
+
+import java.util.HashMap;
+
+
+/*
+    LFU CACHE (LEAST FREQUENTLY USED)
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded cache that, when full, evicts the entry with the fewest accesses; among
+      entries with equally few accesses, the least recently used one goes.
+    - Constant-time LFU with frequency buckets:
+        * A LinkedPositionalList of buckets in increasing order of frequency, holding
+          only the frequencies some entry currently has.
+        * Each bucket holds a LinkedPositionalList of its entries, most recent first.
+        * A HashMap from key to entry; each entry remembers the Position of its bucket
+          and its own Position inside that bucket.
+      An access moves the entry from its bucket (frequency f) to the front of the
+      bucket right after it, creating that bucket if its frequency is not f + 1, and
+      drops the old bucket if it became empty. The victim is always the last entry of
+      the first bucket. Every step is O(1): no heap, no search.
+
+    Characteristics:
+    - Time complexity:
+        * get / put / remove / containsKey: O(1) expected
+    - Space complexity: O(capacity)
+    - Use cases: Workloads whose popular keys stay popular for a long time.
+
+    - Advantages: Keeps frequently used entries through scans of one-time keys.
+    - Disadvantages: Frequencies never decay, so formerly popular entries can hold on to
+      space long after they stop being used; new entries are the first to be evicted.
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - capacity()
+    - get(K key): Returns the cached value (null on a miss) and counts an access
+    - put(K key, V value): Caches the value (a new key starts with frequency 1),
+      evicting the least frequently used entry if the cache is full
+    - remove(K key)
+    - containsKey(K key)
+    - frequency(K key): Number of accesses of a cached key (0 if not cached)
+    - stats()
+
+ */
+
+
+public class LfuCache<K, V> implements CacheInterface<K, V> {
+
+
+    //-------------- NESTED ENTRY CLASS ---------------
+    private static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private PositionInterface<Bucket<K, V>> bucket;     // Position of its frequency bucket
+        private PositionInterface<Entry<K, V>> position;    // Its Position inside that bucket
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    //---------- END OF NESTED ENTRY CLASS ------------
+
+
+    //-------------- NESTED BUCKET CLASS ---------------
+    // All entries with the same access count, most recently used first
+    private static class Bucket<K, V> {
+
+        private final long frequency;
+        private final LinkedPositionalList<Entry<K, V>> entries = new LinkedPositionalList<>();
+
+        Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+    //---------- END OF NESTED BUCKET CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final int capacity;
+    private final HashMap<K, Entry<K, V>> map;
+    private final LinkedPositionalList<Bucket<K, V>> buckets = new LinkedPositionalList<>();   // Increasing frequency
+    private final CacheStats stats = new CacheStats();
+
+
+    // CONSTRUCTORS
+
+    public LfuCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        map = new HashMap<>(LruCache.hashCapacity(capacity));
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return stats;
+    }
+
+    // Returns the access count of a cached key, or 0 if it is not cached
+    public long frequency(K key) {
+        Entry<K, V> entry = map.get(key);
+        return (entry == null) ? 0 : entry.bucket.getElement().frequency;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        touch(entry);
+        return entry.value;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public V put(K key, V value) {
+        LruCache.checkNotNull(key, value);
+        Entry<K, V> entry = map.get(key);
+        if (entry != null) {
+            V old = entry.value;
+            entry.value = value;
+            touch(entry);
+            return old;
+        }
+        if (map.size() == capacity) {
+            evict();
+        }
+        entry = new Entry<>(key, value);
+        PositionInterface<Bucket<K, V>> first = buckets.first();
+        if (first == null || first.getElement().frequency != 1) {
+            first = buckets.addFirst(new Bucket<>(1));
+        }
+        entry.bucket = first;
+        entry.position = first.getElement().entries.addFirst(entry);
+        map.put(key, entry);
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        detach(entry);
+        return entry.value;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Counts an access: moves the entry to the bucket of the next frequency
+    private void touch(Entry<K, V> entry) {
+        PositionInterface<Bucket<K, V>> current = entry.bucket;
+        long frequency = current.getElement().frequency + 1;
+        PositionInterface<Bucket<K, V>> next = buckets.after(current);
+        if (next == null || next.getElement().frequency != frequency) {
+            next = buckets.addAfter(current, new Bucket<>(frequency));
+        }
+        detach(entry);
+        entry.bucket = next;
+        entry.position = next.getElement().entries.addFirst(entry);
+    }
+
+    // Removes the entry from its bucket, dropping the bucket if it becomes empty
+    private void detach(Entry<K, V> entry) {
+        Bucket<K, V> bucket = entry.bucket.getElement();
+        bucket.entries.remove(entry.position);
+        if (bucket.entries.isEmpty()) {
+            buckets.remove(entry.bucket);
+        }
+    }
+
+    // Evicts the least recently used of the least frequently used entries
+    private void evict() {
+        Bucket<K, V> lowest = buckets.first().getElement();
+        Entry<K, V> victim = lowest.entries.last().getElement();
+        detach(victim);
+        map.remove(victim.key);
+        stats.recordEviction();
+    }
+}
@@ -0,0 +1,163 @@
+package org.dsahub;
+
+import java.util.HashMap;
+
+
+/*
+    LRU CACHE (LEAST RECENTLY USED)
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded cache that, when full, evicts the entry that was accessed longest ago.
+    - Two structures work together:
+        * A LinkedPositionalList of entries in recency order: most recently used at
+          the front, least recently used at the back.
+        * A HashMap from key to the entry's Position in that list.
+      A hit looks the Position up and moves it to the front with moveToFront, which
+      relinks the node in O(1) without allocating. Eviction removes the last Position.
+
+    Characteristics:
+    - Time complexity:
+        * get / put / remove / containsKey: O(1) expected
+    - Space complexity: O(capacity)
+    - Use cases: Workloads with strong temporal locality (recently used items are
+      likely to be used again soon).
+
+    - Advantages: Simple, constant time, adapts immediately to a changing working set.
+    - Disadvantages: One scan over many one-time keys flushes the whole cache; ignores
+      how often a key has been used.
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - capacity()
+    - get(K key): Returns the cached value (null on a miss) and marks the key most recent
+    - put(K key, V value): Caches the value as most recent, evicting the least recent
+      entry if the cache is full
+    - remove(K key)
+    - containsKey(K key)
+    - stats()
+
+ */
+
+
+public class LruCache<K, V> implements CacheInterface<K, V> {
+
+
+    //-------------- NESTED ENTRY CLASS ---------------
+    private static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    //---------- END OF NESTED ENTRY CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final int capacity;
+    private final HashMap<K, PositionInterface<Entry<K, V>>> map;
+    private final LinkedPositionalList<Entry<K, V>> list = new LinkedPositionalList<>();    // Most recent first
+    private final CacheStats stats = new CacheStats();
+
+
+    // CONSTRUCTORS
+
+    public LruCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        map = new HashMap<>(hashCapacity(capacity));
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return stats;
+    }
+
+    @Override
+    public V get(K key) {
+        PositionInterface<Entry<K, V>> p = map.get(key);
+        if (p == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        list.moveToFront(p);
+        return p.getElement().value;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public V put(K key, V value) {
+        checkNotNull(key, value);
+        PositionInterface<Entry<K, V>> p = map.get(key);
+        if (p != null) {
+            Entry<K, V> entry = p.getElement();
+            V old = entry.value;
+            entry.value = value;
+            list.moveToFront(p);
+            return old;
+        }
+        if (map.size() == capacity) {
+            Entry<K, V> victim = list.remove(list.last());  // Least recently used
+            map.remove(victim.key);
+            stats.recordEviction();
+        }
+        map.put(key, list.addFirst(new Entry<>(key, value)));
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        PositionInterface<Entry<K, V>> p = map.remove(key);
+        if (p == null) {
+            return null;
+        }
+        return list.remove(p).value;
+    }
+
+
+    // PACKAGE-PRIVATE UTILITY METHODS
+
+    // Initial HashMap capacity that holds n entries without rehashing
+    static int hashCapacity(int n) {
+        return (int) Math.min((long) n * 4 / 3 + 1, 1 << 30);
+    }
+
+    static void checkNotNull(Object key, Object value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Null keys and values are not supported");
+        }
+    }
+}
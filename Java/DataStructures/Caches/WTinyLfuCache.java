@@ -0,0 +1,249 @@
+package org.dsahub;
+
+import java.util.HashMap;
+
+
+/*
+    W-TINYLFU CACHE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded cache that combines recency and frequency, following the W-TinyLFU
+      design (Einziger, Friedman & Manes): an LRU window in front of a main cache that
+      only admits entries more popular than the ones they would replace.
+    - Three LinkedPositionalList segments, each most recent first:
+        * window (WINDOW_PERCENT of the capacity): every new entry starts here, so a
+          burst of new keys gets a chance to prove itself;
+        * probation: main-cache entries that have not been hit since entering it;
+        * protected (PROTECTED_PERCENT of the main cache): main-cache entries hit at
+          least once more. When it overflows, its least recent entry is demoted back
+          to probation.
+    - Admission: an entry pushed out of the full window is a candidate for the main
+      cache. A CountMinSketch, updated on every get and put, estimates how often the
+      candidate and the main cache's victim (the least recent probation entry) have
+      been requested recently. The candidate replaces the victim only if it is more
+      popular; otherwise the candidate itself is dropped (a rejection). A scan of keys
+      that are used once therefore cannot flush the popular entries.
+    - A HashMap from key to entry gives O(1) lookup; each entry remembers its segment
+      and Position, so moving it is a moveToFront or a remove plus addFirst.
+
+    Characteristics:
+    - Time complexity:
+        * get / put / remove / containsKey: O(1) expected (O(1) amortized for the
+          sketch's periodic aging)
+    - Space complexity: O(capacity), plus the sketch (4 bytes per entry of capacity)
+    - Use cases: General-purpose caching where the access pattern is unknown or mixes
+      recency-heavy and frequency-heavy phases (the policy of Caffeine).
+
+    - Advantages: Near-optimal hit rates across very different workloads; resistant to
+      scans; forgets stale popularity through sketch aging.
+    - Disadvantages: More bookkeeping per access than LRU; admission is probabilistic
+      (sketch collisions).
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - capacity()
+    - get(K key): Returns the cached value (null on a miss), recording the access
+    - put(K key, V value): Caches the value in the window; may evict or reject an entry
+    - remove(K key)
+    - containsKey(K key)
+    - stats()
+
+ */
+
+
+public class WTinyLfuCache<K, V> implements CacheInterface<K, V> {
+
+    public static final int WINDOW_PERCENT = 1;         // Share of the capacity for the window
+    public static final int PROTECTED_PERCENT = 80;     // Share of the main cache for protected
+
+    private static final int WINDOW = 0;                // Segments
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+
+    //-------------- NESTED ENTRY CLASS ---------------
+    private static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private int segment;                            // WINDOW, PROBATION or PROTECTED
+        private PositionInterface<Entry<K, V>> position;    // Its Position in that segment
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    //---------- END OF NESTED ENTRY CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final int capacity;
+    private final int windowCapacity;
+    private final int mainCapacity;                     // Probation + protected
+    private final int protectedCapacity;
+    private final HashMap<K, Entry<K, V>> map;
+    private final LinkedPositionalList<Entry<K, V>> window = new LinkedPositionalList<>();
+    private final LinkedPositionalList<Entry<K, V>> probation = new LinkedPositionalList<>();
+    private final LinkedPositionalList<Entry<K, V>> protectedSegment = new LinkedPositionalList<>();
+    private final CountMinSketch sketch;
+    private final CacheStats stats = new CacheStats();
+
+
+    // CONSTRUCTORS
+
+    public WTinyLfuCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        windowCapacity = Math.max(1, (int) ((long) capacity * WINDOW_PERCENT / 100));
+        mainCapacity = capacity - windowCapacity;
+        protectedCapacity = (int) ((long) mainCapacity * PROTECTED_PERCENT / 100);
+        map = new HashMap<>(LruCache.hashCapacity(capacity));
+        sketch = new CountMinSketch(capacity);
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return stats;
+    }
+
+    @Override
+    public V get(K key) {
+        sketch.increment(key);                  // Misses count too: they are future candidates
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        onHit(entry);
+        return entry.value;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public V put(K key, V value) {
+        LruCache.checkNotNull(key, value);
+        Entry<K, V> entry = map.get(key);
+        if (entry != null) {
+            V old = entry.value;
+            entry.value = value;
+            onHit(entry);
+            return old;
+        }
+        sketch.increment(key);
+        entry = new Entry<>(key, value);
+        entry.segment = WINDOW;
+        entry.position = window.addFirst(entry);
+        map.put(key, entry);
+        if (window.size() > windowCapacity) {
+            Entry<K, V> candidate = window.remove(window.last());
+            admit(candidate);
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        segment(entry.segment).remove(entry.position);
+        return entry.value;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Moves a hit entry forward: to the front of the window or protected segment, or
+    // from probation up to protected (demoting protected's least recent entry if full)
+    private void onHit(Entry<K, V> entry) {
+        switch (entry.segment) {
+            case WINDOW:
+                window.moveToFront(entry.position);
+                break;
+            case PROTECTED:
+                protectedSegment.moveToFront(entry.position);
+                break;
+            default:
+                probation.remove(entry.position);
+                entry.segment = PROTECTED;
+                entry.position = protectedSegment.addFirst(entry);
+                if (protectedSegment.size() > protectedCapacity) {
+                    Entry<K, V> demoted = protectedSegment.remove(protectedSegment.last());
+                    demoted.segment = PROBATION;
+                    demoted.position = probation.addFirst(demoted);
+                }
+        }
+    }
+
+    // Offers an entry evicted from the window to the main cache; if the main cache is
+    // full, the more popular of the candidate and the probation victim stays
+    private void admit(Entry<K, V> candidate) {
+        if (probation.size() + protectedSegment.size() < mainCapacity) {
+            candidate.segment = PROBATION;
+            candidate.position = probation.addFirst(candidate);
+            return;
+        }
+        PositionInterface<Entry<K, V>> last = probation.last();
+        if (last == null) {                     // No main cache at all (capacity 1)
+            map.remove(candidate.key);
+            stats.recordEviction();
+            return;
+        }
+        Entry<K, V> victim = last.getElement();
+        if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            probation.remove(last);
+            map.remove(victim.key);
+            stats.recordEviction();
+            candidate.segment = PROBATION;
+            candidate.position = probation.addFirst(candidate);
+        }
+        else {
+            map.remove(candidate.key);          // Not popular enough: dropped
+            stats.recordRejection();
+        }
+    }
+
+    // Returns the list of the given segment
+    private LinkedPositionalList<Entry<K, V>> segment(int segment) {
+        switch (segment) {
+            case WINDOW:
+                return window;
+            case PROBATION:
+                return probation;
+            default:
+                return protectedSegment;
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 /*
     CIRCULARLY LINKED LIST
     ------------------------------------------------------------------------------------
     Description:
     - A variation of the singly linked list where the tail node points to the head node,
       creating a circular structure.
+    - Iterable: iterator() and forEach go once round, starting at the current first
+      element. Iterators are fail-fast, and a rotation counts as a modification.
 
     Characteristics:
     - Time complexity:
@@ -25,12 +34,16 @@ package org.dsahub;
     - first(): Returns (but does not remove) the first element
     - last(): Returns (but does not remove) the last element
     - rotate(): Rotate the first element to the back of the list
+    - rotate(int k): Rotate the first k elements to the back of the list
     - addFirst(E e): Adds element e to the front of the list
     - addLast(E e): Adds element e to the end of the list
     - removeFirst(): Removes and returns the first element
+    - iterator(): Returns a fail-fast iterator of the elements, from first to last
+    - forEach(Consumer<? super E> action): Performs the action on every element, from first to last
+    - spliterator(): Returns a fail-fast spliterator of the elements that knows its size
 */
 
-public class CircularlyLinkedList <E> {
+public class CircularlyLinkedList <E> implements Iterable<E> {
 
     //-------------- NESTED NODE CLASS --------------
     private static class Node<E> {
@@ -52,9 +65,32 @@ public class CircularlyLinkedList <E> {
     }
     //-------------- END OF NESTED NODE CLASS --------
 
+
+    //-------------- NESTED ELEMENT ITERATOR CLASS --------------
+    private class ElementIterator implements Iterator<E> {
+        private Node<E> cursor = (tail == null) ? null : tail.getNext();   // Next to report
+        private int remaining = size;           // The links never end: count the elements
+        private final int expectedModCount = modCount;
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (remaining == 0) {
+                throw new NoSuchElementException("No next element");
+            }
+            E answer = cursor.getElement();
+            cursor = cursor.getNext();
+            remaining--;
+            return answer;
+        }
+    }
+    //-------------- END OF NESTED ELEMENT ITERATOR CLASS --------
+
     // INSTANCE VARIABLES OF CIRUCLARLY LINKED LIST
     private Node<E> tail = null;                // We store tail (but not head)
     private int size = 0;                       // Number of node in the list
+    private int modCount = 0;                   // Structural modifications (incl. rotations)
     public CircularlyLinkedList() { }           // Constructs and initially empty list
 
     // ACCESS METHODS
@@ -76,6 +112,21 @@ public class CircularlyLinkedList <E> {
         }
         return tail.getElement();
     }
+    public Iterator<E> iterator() {             // From the current first element, once round
+        return new ElementIterator();
+    }
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        Node<E> node = (tail == null) ? null : tail.getNext();
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(node.getElement());
+            node = node.getNext();
+        }
+        checkForComodification(expectedModCount);
+    }
+    public Spliterator<E> spliterator() {       // Knows its size, unlike the default one
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
 
     // PUBLIC UPDATE METHODS
 
@@ -83,6 +134,21 @@ public class CircularlyLinkedList <E> {
     public void rotate() {
         if (tail != null) {                     // if empty, do nothing
             tail = tail.getNext();              // The old head becomes the new tail
+            modCount++;
+        }
+    }
+
+    // Rotates the first k elements to the back of the list (same as k calls to rotate()).
+    // Walks k % size nodes, since a singly linked list can only step forward.
+    public void rotate(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Rotation distance must not be negative");
+        }
+        if (tail != null) {
+            for (int steps = k % size; steps > 0; steps--) {
+                tail = tail.getNext();
+            }
+            modCount++;
         }
     }
 
@@ -97,6 +163,7 @@ public class CircularlyLinkedList <E> {
             tail.setNext(newest);
         }
         size++;
+        modCount++;
     }
 
     // Adds element e to the end of the list
@@ -118,7 +185,17 @@ public class CircularlyLinkedList <E> {
             tail.setNext(head.getNext());       // Removes "head" from the list
         }
         size--;
+        modCount++;
         return head.getElement();
     }
 
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
 }
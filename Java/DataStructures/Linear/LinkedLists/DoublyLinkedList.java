@@ -1,11 +1,20 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 /*
     DOUBLY LINKED LIST
     ------------------------------------------------------------------------------------
     Description:
     - A linear data structure where elements are stored in nodes. Each node has a reference
       to the previous and next nodes, forming a doubly linked structure.
+    - Iterable: a fail-fast iterator and a forEach that follows the links directly, so a
+      traversal does not have to remove and re-add every element.
 
     Characteristics:
     - Time complexity:
@@ -28,10 +37,13 @@ package org.dsahub;
     - addLast(E e): Adds element e to the end of the list
     - removeFirst(): Removes and returns the first element
     - removeLast(): Removes and returns the last element
+    - iterator(): Returns a fail-fast iterator of the elements, from first to last
+    - forEach(Consumer<? super E> action): Performs the action on every element, from first to last
+    - spliterator(): Returns a fail-fast spliterator of the elements that knows its size
 */
 
 
-public class DoublyLinkedList<E> {
+public class DoublyLinkedList<E> implements Iterable<E> {
 
     //-------------- NESTED NODE CLASS --------------
     private static class Node<E> {
@@ -61,10 +73,31 @@ public class DoublyLinkedList<E> {
     }
     //-------------- END OF NESTED NODE CLASS --------------
 
+
+    //-------------- NESTED ELEMENT ITERATOR CLASS --------------
+    private class ElementIterator implements Iterator<E> {
+        private Node<E> cursor = header.getNext();  // Node of the next element to report
+        private final int expectedModCount = modCount;
+        public boolean hasNext() {
+            return cursor != trailer;
+        }
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (cursor == trailer) {
+                throw new NoSuchElementException("No next element");
+            }
+            E answer = cursor.getElement();
+            cursor = cursor.getNext();
+            return answer;
+        }
+    }
+    //-------------- END OF NESTED ELEMENT ITERATOR CLASS --------------
+
     // INSTANCE VARIABLES OF DOUBLY LINKED LIST
     private Node<E> header;                     // header sentinel
     private Node<E> trailer;                    // trailer sentinel
     private int size = 0;                       // number of element in the list
+    private int modCount = 0;                   // structural modifications, for fail-fast iteration
 
     // Constructs a new empty list
     public DoublyLinkedList() {
@@ -92,6 +125,20 @@ public class DoublyLinkedList<E> {
         }
         return trailer.getPrev().getElement();  // Last element is before trailer sentinel
     }
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+    public void forEach(Consumer<? super E> action) {   // Follows the links from first to last
+        int expectedModCount = modCount;
+        for (Node<E> node = header.getNext(); node != trailer && modCount == expectedModCount;
+             node = node.getNext()) {
+            action.accept(node.getElement());
+        }
+        checkForComodification(expectedModCount);
+    }
+    public Spliterator<E> spliterator() {       // Knows its size, unlike the default one
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
 
     // PUBLIC UPDATE METHODS
 
@@ -130,6 +177,7 @@ public class DoublyLinkedList<E> {
         predecessor.setNext(newest);
         successor.setPrev(newest);
         size++;
+        modCount++;
     }
 
     // Removes the given node from the list and returns its element
@@ -139,6 +187,16 @@ public class DoublyLinkedList<E> {
         predecessor.setNext(successor);
         successor.setPrev(predecessor);
         size--;
+        modCount++;
         return node.getElement();
     }
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
 }
@@ -1,11 +1,20 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 /*
     SINGLY LINKED LIST
     ------------------------------------------------------------------------------------
     Description:
     - A linear data structure where elements are stored in nodes. Each node points to the
       next node.
+    - Iterable: a fail-fast iterator and a forEach that follows the links directly, so a
+      traversal does not have to remove and re-add every element.
 
     Characteristics:
     - Time complexity:
@@ -27,10 +36,13 @@ package org.dsahub;
      - addFirst(E e): Adds element e to the front of the list
      - addLast(E e): Adds element e to the end of the list
      - removeFirst(): Removes and returns the first element of the list
+     - iterator(): Returns a fail-fast iterator of the elements, from first to last
+     - forEach(Consumer<? super E> action): Performs the action on every element, from first to last
+     - spliterator(): Returns a fail-fast spliterator of the elements that knows its size
 
  */
 
-public class SinglyLinkedList<E> {
+public class SinglyLinkedList<E> implements Iterable<E> {
 
     //-------------- NESTED NODE CLASS ---------------
     private static class Node<E> {
@@ -47,10 +59,29 @@ public class SinglyLinkedList<E> {
     //---------- END OF NESTED NODE CLASS ------------
 
 
+    //-------------- NESTED ELEMENT ITERATOR CLASS ---------------
+    private class ElementIterator implements Iterator<E> {
+        private Node<E> cursor = head;          // Node of the next element to report
+        private final int expectedModCount = modCount;
+        public boolean hasNext() { return cursor != null; }
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (cursor == null) {
+                throw new NoSuchElementException("No next element");
+            }
+            E answer = cursor.getElement();
+            cursor = cursor.getNext();
+            return answer;
+        }
+    }
+    //---------- END OF NESTED ELEMENT ITERATOR CLASS ------------
+
+
     // INSTANCE VARIABLES OF SINGLY LINKED LIST
     private Node<E> head = null;                // Head node of the list (or null if empty)
     private Node<E> tail = null;                // Last node of the list (or null if empty)
     private int size = 0;                       // Number of nodes in the list
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
 
     public SinglyLinkedList() { }               // Constructs and initially empty list
 
@@ -73,6 +104,19 @@ public class SinglyLinkedList<E> {
         }
         return tail.getElement();
     }
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+    public void forEach(Consumer<? super E> action) {   // Follows the links from head to tail
+        int expectedModCount = modCount;
+        for (Node<E> node = head; node != null && modCount == expectedModCount; node = node.getNext()) {
+            action.accept(node.getElement());
+        }
+        checkForComodification(expectedModCount);
+    }
+    public Spliterator<E> spliterator() {       // Knows its size, unlike the default one
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
 
     // PUBLIC UPDATE METHODS
 
@@ -83,6 +127,7 @@ public class SinglyLinkedList<E> {
             tail = head;                        // Special case: new node becomes tail also
         }
         size++;
+        modCount++;
     }
 
     // Adds element e to the end of the list
@@ -96,6 +141,7 @@ public class SinglyLinkedList<E> {
         }
         tail = newest;                          // New node becomes the tail
         size++;
+        modCount++;
     }
 
     // Removes and returns the first element of the list
@@ -106,10 +152,20 @@ public class SinglyLinkedList<E> {
         E answer = head.getElement();
         head = head.getNext();                  // Will become null if list had only one Node
         size--;
+        modCount++;
         if (size == 0) {
             tail = null;                        // Special case as list is now empty
         }
         return answer;
     }
 
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
 }
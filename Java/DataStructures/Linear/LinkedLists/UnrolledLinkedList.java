@@ -0,0 +1,300 @@
+package org.dsahub;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/*
+    UNROLLED LINKED LIST
+    ------------------------------------------------------------------------------------
+    Description:
+    - A doubly linked list of chunks, where each chunk is a small array holding up to
+      chunkSize elements. Elements are stored contiguously within a chunk, so walking
+      through the list touches one node per chunkSize elements instead of one node per
+      element, and the elements of a chunk share cache lines.
+    - Each chunk keeps the occupied range [start, end) of its array. Adding at the back
+      fills the last chunk from left to right, adding at the front fills the first chunk
+      from right to left; a new chunk is linked in only when the end chunk is full.
+    - Chunk recycling: a chunk that becomes empty is kept as a spare (one at most) and
+      reused for the next new chunk. A stack or queue that hovers around a chunk boundary
+      therefore does not allocate a new array every time it crosses it.
+    - Iterable: fail-fast iterators in both directions, and a forEach that walks each
+      chunk's array as a plain indexed loop.
+    - Used as the backing store of UnrolledStack and UnrolledQueue.
+
+    Characteristics:
+    - Time complexity:
+        * Access: O(1) for first/last, O(n) otherwise
+        * Insertion: O(1) at both ends
+        * Deletion: O(1) at both ends
+    - Space complexity: O(n), with one chunk header per chunkSize elements (versus one
+      node object per element for SinglyLinkedList/DoublyLinkedList)
+    - Use cases: Unbounded stacks, queues and deques that want array-like locality
+      without a fixed capacity or an O(n) resize copy.
+
+    - Advantages: No capacity limit, no resize copies, few allocations, cache friendly.
+    - Disadvantages: Up to two partially filled chunks of slack at the ends.
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - first(): Returns (but does not remove) the first element
+    - last(): Returns (but does not remove) the last element
+    - addFirst(E e): Adds element e to the front of the list
+    - addLast(E e): Adds element e to the end of the list
+    - removeFirst(): Removes and returns the first element
+    - removeLast(): Removes and returns the last element
+    - iterator(): Returns a fail-fast iterator of the elements, from first to last
+    - descendingIterator(): Returns a fail-fast iterator of the elements, from last to first
+    - forEach(Consumer<? super E> action): Performs the action on every element, from first to last
+    - spliterator(): Returns a fail-fast spliterator of the elements that knows its size
+*/
+
+
+public class UnrolledLinkedList<E> implements Iterable<E> {
+
+    public static final int CHUNK_SIZE = 64;    // Default elements per chunk
+
+
+    //-------------- NESTED CHUNK CLASS --------------
+    private static class Chunk<E> {
+        private final E[] items;                // Elements in items[start, end)
+        private int start;
+        private int end;
+        private Chunk<E> prev;                  // Neighbouring chunks (null at the ends)
+        private Chunk<E> next;
+
+        @SuppressWarnings("unchecked")
+        Chunk(int chunkSize) {
+            items = (E[]) new Object[chunkSize];    // Safe cast; compiler may give warning
+        }
+    }
+    //-------------- END OF NESTED CHUNK CLASS --------------
+
+
+    //-------------- NESTED CHUNK ITERATOR CLASS --------------
+    // Walks the elements chunk by chunk, forwards or backwards
+    private class ChunkIterator implements Iterator<E> {
+        private final boolean descending;
+        private Chunk<E> chunk;                 // Chunk of the next element to report
+        private int j;                          // Index of the next element in that chunk
+        private final int expectedModCount = modCount;
+
+        ChunkIterator(boolean descending) {
+            this.descending = descending;
+            chunk = descending ? tail : head;
+            if (chunk != null) {
+                j = descending ? chunk.end - 1 : chunk.start;
+            }
+        }
+        public boolean hasNext() {
+            return chunk != null;
+        }
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (chunk == null) {
+                throw new NoSuchElementException("No next element");
+            }
+            E answer = chunk.items[j];
+            if (descending) {
+                if (--j < chunk.start) {
+                    chunk = chunk.prev;
+                    if (chunk != null) {
+                        j = chunk.end - 1;
+                    }
+                }
+            }
+            else if (++j == chunk.end) {
+                chunk = chunk.next;
+                if (chunk != null) {
+                    j = chunk.start;
+                }
+            }
+            return answer;
+        }
+    }
+    //-------------- END OF NESTED CHUNK ITERATOR CLASS --------------
+
+
+    // INSTANCE VARIABLES
+    private final int chunkSize;                // Capacity of each chunk
+    private Chunk<E> head = null;               // First chunk (or null if empty)
+    private Chunk<E> tail = null;               // Last chunk (or null if empty)
+    private Chunk<E> spare = null;              // Recycled empty chunk (or null)
+    private int size = 0;                       // Number of elements in the list
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
+
+
+    // CONSTRUCTORS
+    public UnrolledLinkedList() {
+        this(CHUNK_SIZE);
+    }
+
+    public UnrolledLinkedList(int chunkSize) {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException("Chunk size must be at least 2");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+
+    // ACCESS METHODS
+    public int size() {
+        return size;
+    }
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    public E first() {                          // Returns (but does not remove) the first element
+        if (isEmpty()) {
+            return null;
+        }
+        return head.items[head.start];
+    }
+    public E last() {                           // Returns (but does not remove) the last element
+        if (isEmpty()) {
+            return null;
+        }
+        return tail.items[tail.end - 1];
+    }
+    public Iterator<E> iterator() {
+        return new ChunkIterator(false);
+    }
+    public Iterator<E> descendingIterator() {
+        return new ChunkIterator(true);
+    }
+    public void forEach(Consumer<? super E> action) {   // One indexed loop per chunk
+        int expectedModCount = modCount;
+        for (Chunk<E> chunk = head; chunk != null && modCount == expectedModCount; chunk = chunk.next) {
+            E[] items = chunk.items;
+            for (int i = chunk.start, end = chunk.end; i < end && modCount == expectedModCount; i++) {
+                action.accept(items[i]);
+            }
+        }
+        checkForComodification(expectedModCount);
+    }
+    public Spliterator<E> spliterator() {       // Knows its size, unlike the default one
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Adds element e to the front of the list
+    public void addFirst(E e) {
+        if (head == null || head.start == 0) {
+            Chunk<E> chunk = newChunk(chunkSize);   // Empty chunk, filled from the right
+            chunk.next = head;
+            if (head == null) {
+                tail = chunk;
+            }
+            else {
+                head.prev = chunk;
+            }
+            head = chunk;
+        }
+        head.items[--head.start] = e;
+        size++;
+        modCount++;
+    }
+
+    // Adds element e to the end of the list
+    public void addLast(E e) {
+        if (tail == null || tail.end == chunkSize) {
+            Chunk<E> chunk = newChunk(0);       // Empty chunk, filled from the left
+            chunk.prev = tail;
+            if (tail == null) {
+                head = chunk;
+            }
+            else {
+                tail.next = chunk;
+            }
+            tail = chunk;
+        }
+        tail.items[tail.end++] = e;
+        size++;
+        modCount++;
+    }
+
+    // Removes and returns the first element of the list
+    public E removeFirst() {
+        if (isEmpty()) {
+            return null;                        // Nothing to remove
+        }
+        Chunk<E> chunk = head;
+        E answer = chunk.items[chunk.start];
+        chunk.items[chunk.start++] = null;      // Help garbage collection
+        size--;
+        modCount++;
+        if (chunk.start == chunk.end) {         // Chunk is empty: unlink and recycle it
+            head = chunk.next;
+            if (head == null) {
+                tail = null;
+            }
+            else {
+                head.prev = null;
+            }
+            recycle(chunk);
+        }
+        return answer;
+    }
+
+    // Removes and returns the last element of the list
+    public E removeLast() {
+        if (isEmpty()) {
+            return null;                        // Nothing to remove
+        }
+        Chunk<E> chunk = tail;
+        E answer = chunk.items[--chunk.end];
+        chunk.items[chunk.end] = null;          // Help garbage collection
+        size--;
+        modCount++;
+        if (chunk.start == chunk.end) {         // Chunk is empty: unlink and recycle it
+            tail = chunk.prev;
+            if (tail == null) {
+                head = null;
+            }
+            else {
+                tail.next = null;
+            }
+            recycle(chunk);
+        }
+        return answer;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Returns an empty, unlinked chunk with start = end = position (the spare if there is one)
+    private Chunk<E> newChunk(int position) {
+        Chunk<E> chunk = spare;
+        if (chunk == null) {
+            chunk = new Chunk<>(chunkSize);
+        }
+        else {
+            spare = null;
+        }
+        chunk.start = position;
+        chunk.end = position;
+        return chunk;
+    }
+
+    // Keeps an emptied chunk as the spare, unless there already is one
+    private void recycle(Chunk<E> chunk) {
+        chunk.prev = null;
+        chunk.next = null;
+        if (spare == null) {
+            spare = chunk;
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package org.dsahub;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     ARRAY LIST
     ------------------------------------------------------------------------------------
     Description:
     - Implements the ListInterface using a dynamic array.
+    - Shifts elements with System.arraycopy (one bulk move instead of a per-element loop)
+      and grows the array geometrically (doubling), so appends are amortized O(1).
+    - Iteration: fail-fast iterator (with remove), a forEach that walks the array
+      directly, and a spliterator that splits the index range exactly (SIZED |
+      SUBSIZED), so parallel streams divide the work evenly.
 
     Characteristics:
     - Time complexity:
         * Access: O(1)
         * Search: O(n)
-        * Insertion: O(n)
-        * Deletion: O(n)
+        * Insertion: O(n) (amortized O(1) at the end)
+        * Deletion: O(n) (O(1) at the end)
+        * Bulk insertion/deletion of k elements: O(n + k), with a single shift
     - Space complexity: O(n)
 
     - Advantages: Dynamic resizing, constant-time access, and efficient appends.
@@ -24,18 +37,65 @@ package org.dsahub;
     - get(int i): Returns (but does not remove) the element at index i
     - set(int i, E e): Replaces the element at index i with e and returns the replaced element
     - add(int i, E e): Inserts element e to be at index i, shifting all subsequent elements later
+    - add(E e): Appends element e to the end of the list
+    - addAll(int i, E[] elements): Inserts all elements at index i, shifting subsequent elements once
     - remove(int i): Removes/returns the element at index i, shifting subsequent elements earlier
+    - removeRange(int from, int to): Removes elements in [from, to), shifting subsequent elements once
+    - ensureCapacity(int minCapacity): Grows the array so it can hold at least minCapacity elements
+    - iterator(): Returns a fail-fast iterator of the elements, in index order
+    - forEach(Consumer<? super E> action): Performs the action on every element, in index order
+    - spliterator(): Returns a splittable, fail-fast spliterator of the elements
  */
 
 
 public class ArrayList<E> implements ListInterface<E> {
 
 
+    //-------------- NESTED ARRAY ITERATOR CLASS ---------------
+    private class ArrayIterator implements Iterator<E> {
+
+        private int j = 0;                      // Index of the next element to report
+        private int lastReturned = -1;          // Index of the last element reported (-1 if none)
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastReturned = j;
+            return data[j++];
+        }
+
+        // Removes the element last reported by next()
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == -1) {
+                throw new IllegalStateException("Nothing to remove");
+            }
+            checkForComodification(expectedModCount);
+            ArrayList.this.remove(lastReturned);
+            j = lastReturned;                   // The next element shifted into its place
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+    //---------- END OF NESTED ARRAY ITERATOR CLASS ------------
+
+
     // INSTANCE VARIABLES
 
     public static final int CAPACITY = 16;          // Default array capacity
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;  // Largest array length that is safe to allocate
     private E[] data;                               // Generic array used for storage
     private int size = 0;                           // Current number of elements
+    private int modCount = 0;                       // Structural modifications, for fail-fast iteration
 
 
     // CONSTRUCTORS
@@ -70,6 +130,28 @@ public class ArrayList<E> implements ListInterface<E> {
         return data[i];
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayIterator();
+    }
+
+    // Performs the action on every element in index order, reading the array directly
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        int size = this.size;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[i], () -> size, () -> modCount);
+    }
+
 
     // PUBLIC UPDATE METHODS
 
@@ -84,13 +166,38 @@ public class ArrayList<E> implements ListInterface<E> {
 
     // Inserts element e to be at index i, shifting all subsequent elements later
     @Override
-    public void add(int i, E e) throws IndexOutOfBoundsException, IllegalStateException {
-
+    public void add(int i, E e) throws IndexOutOfBoundsException {
         checkIndex(i, size + 1);
         if (size == data.length) {
-            resize(2 + data.length);
+            ensureCapacity(size + 1);
         }
+        System.arraycopy(data, i, data, i + 1, size - i);   // Shift subsequent elements right
+        data[i] = e;
+        size++;
+        modCount++;
+    }
 
+    // Appends element e to the end of the list
+    public void add(E e) {
+        if (size == data.length) {
+            ensureCapacity(size + 1);
+        }
+        data[size++] = e;
+        modCount++;
+    }
+
+    // Inserts all the given elements, in order, starting at index i, shifting subsequent elements once
+    public void addAll(int i, E[] elements) throws IndexOutOfBoundsException {
+        checkIndex(i, size + 1);
+        int k = elements.length;
+        if (k == 0) {
+            return;
+        }
+        ensureCapacity(size + k);
+        System.arraycopy(data, i, data, i + k, size - i);   // Open a gap of k slots
+        System.arraycopy(elements, 0, data, i, k);          // Fill the gap
+        size += k;
+        modCount++;
     }
 
     // Removes/returns the element at index i, shifting subsequent elements earlier
@@ -99,14 +206,36 @@ public class ArrayList<E> implements ListInterface<E> {
 
         checkIndex(i, size);
         E temp = data[i];
+        System.arraycopy(data, i + 1, data, i, size - i - 1);  // Shift elements to fill hole
+        data[--size] = null;                        // Help garbage collection
+        modCount++;
+        return temp;
+
+    }
 
-        for (int k = i; k < size - 1; k++) {        // Shift elements to fill hole
-            data[k] = data[k + 1];
+    // Removes the elements at indices [from, to), shifting subsequent elements earlier once
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException();
         }
-        data[size - 1] = null;                      // Help garbage collection
-        size--;
-        return temp;
+        System.arraycopy(data, to, data, from, size - to);  // Close the hole in one move
+        int newSize = size - (to - from);
+        Arrays.fill(data, newSize, size, null);   // Help garbage collection
+        if (newSize < size) {
+            size = newSize;
+            modCount++;
+        }
+    }
 
+    // Grows the internal array, if needed, so it can hold at least minCapacity elements
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("List is too large");  // Includes size + k overflowing
+        }
+        if (minCapacity > data.length) {
+            long doubled = Math.min(2L * data.length, MAX_CAPACITY);  // Geometric growth, clamped
+            resize((int) Math.max(doubled, minCapacity));
+        }
     }
 
 
@@ -119,12 +248,17 @@ public class ArrayList<E> implements ListInterface<E> {
         }
     }
 
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     // Resizes internal array to have given capacity >= size
     protected void resize(int capacity) {
         E[] temp = (E[]) new Object[capacity];      // Safe cast, compiler may give warning
-        for (int k = 0; k < size; k++) {
-            temp[k] = data[k];
-        }
+        System.arraycopy(data, 0, temp, 0, size);   // Bulk copy instead of element by element
         data = temp;                                // Start using the new array
     }
 }
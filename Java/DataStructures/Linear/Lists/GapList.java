@@ -0,0 +1,246 @@
+package org.dsahub;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
+/*
+    GAP LIST (GAP BUFFER)
+    ------------------------------------------------------------------------------------
+    Description:
+    - Implements the ListInterface using an array with a movable gap of free slots
+      (the technique text editors use for the text around the cursor).
+    - The elements before the gap sit at the start of the array and the elements after
+      the gap sit at the end. Inserting or removing at the gap only moves its boundary.
+    - Editing at another index first moves the gap there, copying only the elements
+      between the old and new gap positions (one System.arraycopy).
+    - When the gap is used up the array doubles, so the new gap is as large as the list.
+    - Iteration: fail-fast iterator (with remove), a forEach that walks the two runs of
+      the array on either side of the gap, and an exactly splitting spliterator.
+
+    Characteristics:
+    - Time complexity:
+        * Access: O(1)
+        * Search: O(n)
+        * Insertion/Deletion at the gap: O(1) amortized
+        * Insertion/Deletion d positions away from the last edit: O(d)
+    - Space complexity: O(n)
+
+    - Advantages: Runs of edits near a moving cursor cost O(1) each, constant-time access.
+    - Disadvantages: Edits that jump around the list cost as much as in ArrayList.
+
+    Operation/Methods:
+    - size(): Returns the number of elements in the list
+    - isEmpty(): Returns whether the list is empty
+    - get(int i): Returns (but does not remove) the element at index i
+    - set(int i, E e): Replaces the element at index i with e and returns the replaced element
+    - add(int i, E e): Inserts element e to be at index i, shifting all subsequent elements later
+    - remove(int i): Removes/returns the element at index i, shifting subsequent elements earlier
+    - iterator(): Returns a fail-fast iterator of the elements, in index order
+    - forEach(Consumer<? super E> action): Performs the action on every element, in index order
+    - spliterator(): Returns a splittable, fail-fast spliterator of the elements
+ */
+
+
+public class GapList<E> implements ListInterface<E> {
+
+
+    //-------------- NESTED GAP ITERATOR CLASS ---------------
+    private class GapIterator implements Iterator<E> {
+
+        private int j = 0;                      // Index of the next element to report
+        private int lastReturned = -1;          // Index of the last element reported (-1 if none)
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size();
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastReturned = j;
+            return data[physical(j++)];
+        }
+
+        // Removes the element last reported by next()
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == -1) {
+                throw new IllegalStateException("Nothing to remove");
+            }
+            checkForComodification(expectedModCount);
+            GapList.this.remove(lastReturned);  // Moves the gap here, so removing again is O(1)
+            j = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+    //---------- END OF NESTED GAP ITERATOR CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 16;          // Default array capacity
+    private E[] data;                               // Generic array used for storage
+    private int gapStart = 0;                       // Index of the first free slot
+    private int gapEnd;                             // Index just past the last free slot
+    private int modCount = 0;                       // Structural modifications, for fail-fast iteration
+
+
+    // CONSTRUCTORS
+
+    // Constructs list with default capacity
+    public GapList() {
+        this(CAPACITY);
+    }
+
+    // Constructs list with given capacity
+    public GapList(int capacity) {
+        data = (E[]) new Object[Math.max(1, capacity)]; // Safe cast; compiler may give warning
+        gapEnd = data.length;                       // The whole array is gap
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return data.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Returns (but does not remove) the element at index i
+    @Override
+    public E get(int i) throws IndexOutOfBoundsException {
+        checkIndex(i, size());
+        return data[physical(i)];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new GapIterator();
+    }
+
+    // Performs the action on every element in index order: the run before the gap, then
+    // the run after it
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        int gapStart = this.gapStart;
+        int gapEnd = this.gapEnd;
+        for (int i = 0; i < gapStart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = gapEnd; i < data.length && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[physical(i)], this::size, () -> modCount);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Replaces the element at index i with e, and returns the replaced element
+    @Override
+    public E set(int i, E e) throws IndexOutOfBoundsException {
+        checkIndex(i, size());
+        int p = physical(i);
+        E temp = data[p];
+        data[p] = e;
+        return temp;
+    }
+
+    // Inserts element e to be at index i, shifting all subsequent elements later
+    @Override
+    public void add(int i, E e) throws IndexOutOfBoundsException {
+        checkIndex(i, size() + 1);
+        if (gapStart == gapEnd) {
+            resize(2 * data.length);                // Gap used up: double the array
+        }
+        moveGap(i);
+        data[gapStart++] = e;                       // Element i is now the one before the gap
+        modCount++;
+    }
+
+    // Removes/returns the element at index i, shifting subsequent elements earlier
+    @Override
+    public E remove(int i) throws IndexOutOfBoundsException {
+        checkIndex(i, size());
+        moveGap(i);
+        E temp = data[gapEnd];                      // Element i is the first after the gap
+        data[gapEnd++] = null;                      // Help garbage collection
+        modCount++;
+        return temp;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Checks whether the given index is in the range [0, n - 1]
+    protected void checkIndex(int i, int n) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Maps list index i to its array index, skipping over the gap
+    private int physical(int i) {
+        return i < gapStart ? i : i + (gapEnd - gapStart);
+    }
+
+    // Moves the gap so that it starts at list index i
+    private void moveGap(int i) {
+        if (i < gapStart) {
+            int count = gapStart - i;               // Elements [i, gapStart) move behind the gap
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(data, i, data, newGapEnd, count);
+            Arrays.fill(data, i, Math.min(gapStart, newGapEnd), null);  // Vacated slots, for GC
+            gapStart = i;
+            gapEnd = newGapEnd;
+        }
+        else if (i > gapStart) {
+            int count = i - gapStart;               // Elements after the gap move in front of it
+            int newGapEnd = gapEnd + count;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapEnd, i), newGapEnd, null);    // Vacated slots, for GC
+            gapStart = i;
+            gapEnd = newGapEnd;
+        }
+    }
+
+    // Resizes internal array to have given capacity > size, keeping the gap where it is
+    private void resize(int capacity) {
+        E[] temp = (E[]) new Object[capacity];      // Safe cast; compiler may give warning
+        int tail = data.length - gapEnd;            // Number of elements after the gap
+        System.arraycopy(data, 0, temp, 0, gapStart);
+        System.arraycopy(data, gapEnd, temp, capacity - tail, tail);
+        gapEnd = capacity - tail;
+        data = temp;                                // Start using the new array
+    }
+}
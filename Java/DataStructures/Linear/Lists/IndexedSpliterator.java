@@ -0,0 +1,139 @@
+package org.dsahub;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+
+/*
+    INDEXED SPLITERATOR
+    ------------------------------------------------------------------------------------
+    Description:
+    - A Spliterator over any structure that can read its i-th element in O(1) without
+      moving anything: ArrayList, GapList, TieredList, ArrayStack and the ring-buffer
+      queues and deques. The structure passes three functions:
+        * elementAt(i): its i-th element in iteration order (no bounds check needed);
+        * size: its current number of elements;
+        * modCount: its count of structural modifications.
+    - Late binding: the index range [0, size) and the expected modCount are read at the
+      first traversal, split or size estimate, not at creation, so a spliterator made
+      before the structure is filled still sees every element.
+    - Fail-fast: every element read first checks the modCount and throws
+      ConcurrentModificationException if the structure was modified.
+    - trySplit hands the first half of the remaining range to a new spliterator, so
+      every split knows its exact size (SIZED | SUBSIZED) and parallel streams divide
+      the work evenly.
+
+    Characteristics:
+    - Time complexity:
+        * tryAdvance / trySplit / estimateSize: O(1)
+        * forEachRemaining: O(n)
+    - Space complexity: O(1)
+
+    Operation/Methods:
+    - tryAdvance(Consumer<? super E> action)
+    - forEachRemaining(Consumer<? super E> action)
+    - trySplit(): Splits off the first half of the remaining elements (or returns null)
+    - estimateSize(): Exact number of remaining elements
+    - characteristics(): ORDERED | SIZED | SUBSIZED
+ */
+
+
+class IndexedSpliterator<E> implements Spliterator<E> {
+
+
+    // INSTANCE VARIABLES
+
+    private final IntFunction<E> elementAt;     // Reads the element at an index
+    private final IntSupplier size;             // Current size of the structure
+    private final IntSupplier modCount;         // Current modCount of the structure
+    private int index;                          // Next index to report
+    private int fence;                          // One past the last index (-1 until bound)
+    private int expectedModCount;               // modCount when bound
+
+
+    // CONSTRUCTORS
+
+    // Constructs a spliterator over all the elements of a structure, bound at first use
+    IndexedSpliterator(IntFunction<E> elementAt, IntSupplier size, IntSupplier modCount) {
+        this(elementAt, size, modCount, 0, -1, 0);
+    }
+
+    // Constructs a spliterator over the already bound range [origin, fence)
+    private IndexedSpliterator(IntFunction<E> elementAt, IntSupplier size, IntSupplier modCount,
+                               int origin, int fence, int expectedModCount) {
+        this.elementAt = elementAt;
+        this.size = size;
+        this.modCount = modCount;
+        this.index = origin;
+        this.fence = fence;
+        this.expectedModCount = expectedModCount;
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (index >= getFence()) {
+            return false;
+        }
+        checkForComodification();
+        action.accept(elementAt.apply(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        int hi = getFence();
+        for (int i = index; i < hi; i++) {
+            checkForComodification();           // Before the read: a shrunken structure may fail it
+            action.accept(elementAt.apply(i));
+        }
+        index = hi;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int lo = index;
+        int mid = (lo + getFence()) >>> 1;
+        if (lo >= mid) {
+            return null;                        // Too small to split
+        }
+        index = mid;
+        return new IndexedSpliterator<>(elementAt, size, modCount, lo, mid, expectedModCount);
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Binds the range and the expected modCount on first use, and returns the fence
+    private int getFence() {
+        if (fence < 0) {
+            expectedModCount = modCount.getAsInt();
+            fence = size.getAsInt();
+        }
+        return fence;
+    }
+
+    private void checkForComodification() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
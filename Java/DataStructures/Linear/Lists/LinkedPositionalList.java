@@ -1,5 +1,14 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 
 /*
     LINKED POSITIONAL LIST
@@ -7,9 +16,23 @@ package org.dsahub;
     Description:
     - Implements the PositionalListInterface using a doubly linked list.
 
+    - Optionally indexed: a list constructed with indexed = true also keeps a HashMap
+      from each element to its Position, updated by every add, set and remove. Finding,
+      testing for and removing an element by value then take O(1) expected time instead
+      of an O(n) walk, which is what LRU-style bookkeeping over millions of entries
+      needs. In an indexed list elements must be unique (by equals) and non-null.
+
+    - Iteration: a fail-fast iterator (with remove) and a forEach that follow the node
+      links directly, instead of first()/after(p) calls that validate every Position.
+
     Characteristics:
     - Uses a doubly linked list to represent a positional list.
     - Provides methods for position-based access and manipulation.
+    - Time complexity:
+        * Position-based access, insertion and removal: O(1)
+        * moveToFront / moveToBack: O(1), relinking the node without allocating
+        * positionOf / contains / removeElement: O(1) expected if indexed, O(n) otherwise
+    - Space complexity: O(n) (plus one hash entry per element if indexed)
 
     Operation/Methods:
     - size(): Returns the number of elements in the list
@@ -24,6 +47,15 @@ package org.dsahub;
     - addAfter(PositionInterface<E> p, E e): Inserts element e after Position p and returns its new Position
     - set(PositionInterface<E> p, E e): Replaces the element stored at Position p and returns the replaced element
     - remove(PositionInterface<E> p): Removes the element stored at Position p and returns it (invalidating p)
+    - moveToFront(PositionInterface<E> p): Moves Position p to the front of the list (p stays valid)
+    - moveToBack(PositionInterface<E> p): Moves Position p to the back of the list (p stays valid)
+    - isIndexed(): Tests whether the list keeps an element-to-Position index
+    - positionOf(E e): Returns the Position of element e (or null if it is not in the list)
+    - contains(E e): Tests whether element e is in the list
+    - removeElement(E e): Removes element e; returns false if it was not in the list
+    - iterator(): Returns a fail-fast iterator of the elements, from first to last
+    - forEach(Consumer<? super E> action): Performs the action on every element, from first to last
+    - spliterator(): Returns a fail-fast spliterator of the elements that knows its size
  */
 
 
@@ -69,17 +101,63 @@ public class LinkedPositionalList<E> implements PositionalListInterface<E> {
     //---------- END OF NESTED NODE CLASS ------------
 
 
+    //-------------- NESTED ELEMENT ITERATOR CLASS ---------------
+    private class ElementIterator implements Iterator<E> {
+
+        private Node<E> cursor = header.getNext();  // Node of the next element to report
+        private Node<E> recent = null;          // Node of the last element reported (null if none)
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != trailer;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (cursor == trailer) {
+                throw new NoSuchElementException("No next element");
+            }
+            recent = cursor;
+            cursor = cursor.getNext();
+            return recent.element;
+        }
+
+        // Removes the element last reported by next()
+        @Override
+        public void remove() throws IllegalStateException {
+            if (recent == null) {
+                throw new IllegalStateException("Nothing to remove");
+            }
+            checkForComodification(expectedModCount);
+            LinkedPositionalList.this.remove(recent);
+            recent = null;
+            expectedModCount = modCount;
+        }
+    }
+    //---------- END OF NESTED ELEMENT ITERATOR CLASS ------------
+
+
     // INSTANCE VARIABLES OF LINKED POSITIONAL LIST
 
     private Node<E> header;                     // Header sentinel
     private Node<E> trailer;                    // Trailer sentinel
     private int size = 0;                       // Number of elements in the list
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
+    private final HashMap<E, Node<E>> index;    // Element to node, or null if not indexed
 
 
     // CONSTRUCTORS
 
-    // Constructs a new empty list
+    // Constructs a new empty list without an element index
     public LinkedPositionalList() {
+        this(false);
+    }
+
+    // Constructs a new empty list; if indexed, elements must be unique and non-null
+    public LinkedPositionalList(boolean indexed) {
+        index = indexed ? new HashMap<>() : null;
         header = new Node<>(null, null, null);  // Create header
         trailer = new Node<>(null, header, null);   // Trailer is preceded by header
         header.setNext(trailer);                // Header is followed by trailer
@@ -98,6 +176,50 @@ public class LinkedPositionalList<E> implements PositionalListInterface<E> {
         return size == 0;
     }
 
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    // Returns the Position of element e, or null if it is not in the list
+    // (O(1) expected if indexed; otherwise the first match of a front-to-back walk)
+    public PositionInterface<E> positionOf(E e) {
+        if (index != null) {
+            return index.get(e);
+        }
+        for (Node<E> node = header.getNext(); node != trailer; node = node.getNext()) {
+            if (Objects.equals(node.getElement(), e)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    // Tests whether element e is in the list
+    public boolean contains(E e) {
+        return positionOf(e) != null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    // Performs the action on every element from first to last, following the node links
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        for (Node<E> node = header.getNext(); node != trailer && modCount == expectedModCount;
+             node = node.getNext()) {
+            action.accept(node.element);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
     @Override
     public PositionInterface<E> first() {
         return position(header.getNext());
@@ -153,6 +275,14 @@ public class LinkedPositionalList<E> implements PositionalListInterface<E> {
     public E set(PositionInterface<E> p, E e) throws IllegalArgumentException {
         Node<E> node = validate(p);
         E answer = node.getElement();
+        if (index != null) {
+            checkNotNull(e);
+            if (!answer.equals(e) && index.containsKey(e)) {
+                throw new IllegalArgumentException("Element is already in the list");
+            }
+            index.remove(answer);               // Also when equal, so the key is the new object
+            index.put(e, node);
+        }
         node.setElement(e);
         return answer;
     }
@@ -164,15 +294,50 @@ public class LinkedPositionalList<E> implements PositionalListInterface<E> {
         Node<E> predecessor = node.getPrev();
         Node<E> successor = node.getNext();
         predecessor.setNext(successor);
-        successor.setNext(predecessor);
+        successor.setPrev(predecessor);
         size--;
+        modCount++;
         E answer = node.getElement();
+        if (index != null) {
+            index.remove(answer);
+        }
         node.setElement(null);                          // Help with garbage collection
         node.setNext(null);                             // And convention for defunct node
         node.setPrev(null);
         return answer;
     }
 
+    // Moves Position p to the front of the list; p remains valid
+    public void moveToFront(PositionInterface<E> p) throws IllegalArgumentException {
+        Node<E> node = validate(p);
+        if (node.getPrev() != header) {
+            unlink(node);
+            link(node, header, header.getNext());
+            modCount++;
+        }
+    }
+
+    // Moves Position p to the back of the list; p remains valid
+    public void moveToBack(PositionInterface<E> p) throws IllegalArgumentException {
+        Node<E> node = validate(p);
+        if (node.getNext() != trailer) {
+            unlink(node);
+            link(node, trailer.getPrev(), trailer);
+            modCount++;
+        }
+    }
+
+    // Removes element e (the first occurrence if not indexed); returns false if e is not
+    // in the list
+    public boolean removeElement(E e) {
+        PositionInterface<E> p = positionOf(e);
+        if (p == null) {
+            return false;
+        }
+        remove(p);
+        return true;
+    }
+
 
     // PRIVATE UTILITY METHODS
 
@@ -199,10 +364,44 @@ public class LinkedPositionalList<E> implements PositionalListInterface<E> {
     // Adds element e to the linked list between the given nodes
     private PositionInterface<E> addBetween(E e, Node<E> pred, Node<E> succ) {
         Node<E> newest = new Node<>(e, pred, succ);
+        if (index != null) {
+            checkNotNull(e);
+            if (index.putIfAbsent(e, newest) != null) {
+                throw new IllegalArgumentException("Element is already in the list");
+            }
+        }
         pred.setNext(newest);
         succ.setPrev(newest);
         size++;
+        modCount++;
         return newest;
     }
 
+    // Detaches the node from its neighbours (its own links are left for link to overwrite)
+    private void unlink(Node<E> node) {
+        node.getPrev().setNext(node.getNext());
+        node.getNext().setPrev(node.getPrev());
+    }
+
+    // Splices a detached node in between the given adjacent nodes
+    private void link(Node<E> node, Node<E> pred, Node<E> succ) {
+        node.setPrev(pred);
+        node.setNext(succ);
+        pred.setNext(node);
+        succ.setPrev(node);
+    }
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static void checkNotNull(Object e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported in an indexed list");
+        }
+    }
+
 }
@@ -6,6 +6,8 @@ package org.dsahub;
     ------------------------------------------------------------------------------------
     Description:
     - A simplified version of the java.util.List interface.
+    - Iterable: lists are traversed front to back by iterator() and forEach, and the
+      iterators of the implementations are fail-fast.
 
     Characteristics:
     - Time complexity:
@@ -25,10 +27,11 @@ package org.dsahub;
     - set(int i, E e): Replaces the element at index i with e and returns the replaced element
     - add(int i, E e): Inserts element e to be at index i, shifting all subsequent elements later
     - remove(int i): Removes/returns the element at index i, shifting subsequent elements earlier
+    - iterator(): Returns an iterator of the elements, from index 0 to size() - 1
  */
 
 
-public interface ListInterface<E> {
+public interface ListInterface<E> extends Iterable<E> {
 
     // Returns the number of elements in the list
     int size();
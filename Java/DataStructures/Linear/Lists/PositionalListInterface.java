@@ -10,6 +10,8 @@ package org.dsahub;
     Characteristics:
     - Represents a positional list, providing methods for position-based access.
     - Allows insertion, retrieval, and removal of elements based on positions.
+    - Iterable: iterator() and forEach visit the elements from first to last without
+      going through Positions.
 
     Operation/Methods:
     - size(): Returns the number of elements in the list
@@ -24,11 +26,12 @@ package org.dsahub;
     - addAfter(PositionInterface<E> p, E e): Inserts element e after Position p and returns its new Position
     - set(PositionInterface<E> p, E e): Replaces the element stored at Position p and returns the replaced element
     - remove(PositionInterface<E> p): Removes the element stored at Position p and returns it (invalidating p)
+    - iterator(): Returns an iterator of the elements, from first to last
  */
 
 
 // An interface for positional lists
-public interface PositionalListInterface<E> {
+public interface PositionalListInterface<E> extends Iterable<E> {
 
     // Returns the number of elements in the list
     int size();
@@ -0,0 +1,342 @@
+package org.dsahub;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
+/*
+    TIERED LIST (TIERED VECTOR)
+    ------------------------------------------------------------------------------------
+    Description:
+    - Implements the ListInterface as a chunked array: a directory of fixed-size blocks,
+      each block being a small circular array (ring) of B elements.
+    - Every block is full except the last, so element i is found with two shifts:
+      block i / B, slot i % B (B is a power of two).
+    - Inserting at index i only shifts elements inside block i / B. Every later block
+      then passes its last element on to the front of the next block, which is O(1) per
+      block because the blocks are rings. Removal works the same way in reverse.
+    - B is kept close to sqrt(n): when the directory grows past 2B blocks (or the list
+      shrinks well below B * B elements) the list is rebuilt with B doubled (or halved).
+    - Iteration: fail-fast iterator (with remove), a forEach that walks each ring in
+      turn, and an exactly splitting spliterator.
+
+    Characteristics:
+    - Time complexity:
+        * Access: O(1)
+        * Search: O(n)
+        * Insertion: O(sqrt(n)) at any index
+        * Deletion: O(sqrt(n)) at any index
+    - Space complexity: O(n + sqrt(n))
+
+    - Advantages: Arbitrary-position edits in O(sqrt(n)) with constant-time access.
+    - Disadvantages: Slower access than a flat array (two loads), periodic O(n) rebuilds.
+
+    Operation/Methods:
+    - size(): Returns the number of elements in the list
+    - isEmpty(): Returns whether the list is empty
+    - get(int i): Returns (but does not remove) the element at index i
+    - set(int i, E e): Replaces the element at index i with e and returns the replaced element
+    - add(int i, E e): Inserts element e to be at index i, shifting all subsequent elements later
+    - remove(int i): Removes/returns the element at index i, shifting subsequent elements earlier
+    - iterator(): Returns a fail-fast iterator of the elements, in index order
+    - forEach(Consumer<? super E> action): Performs the action on every element, in index order
+    - spliterator(): Returns a splittable, fail-fast spliterator of the elements
+ */
+
+
+public class TieredList<E> implements ListInterface<E> {
+
+
+    //-------------- NESTED TIERED ITERATOR CLASS ---------------
+    private class TieredIterator implements Iterator<E> {
+
+        private int j = 0;                      // Index of the next element to report
+        private int lastReturned = -1;          // Index of the last element reported (-1 if none)
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastReturned = j;
+            return elementAt(j++);
+        }
+
+        // Removes the element last reported by next()
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == -1) {
+                throw new IllegalStateException("Nothing to remove");
+            }
+            checkForComodification(expectedModCount);
+            TieredList.this.remove(lastReturned);
+            j = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+    //---------- END OF NESTED TIERED ITERATOR CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    public static final int MIN_BLOCK_BITS = 4;     // Blocks never get smaller than 16 slots
+    private Object[][] blocks;                      // Directory of blocks (rings of length B)
+    private int[] offsets;                          // Ring index of each block's first element
+    private int blockCount = 0;                     // Number of blocks in use
+    private int bits;                               // log2(B)
+    private int mask;                               // B - 1, used to wrap ring indices
+    private int size = 0;                           // Current number of elements
+    private int modCount = 0;                       // Structural modifications, for fail-fast iteration
+
+
+    // CONSTRUCTORS
+
+    // Constructs a new empty list
+    public TieredList() {
+        bits = MIN_BLOCK_BITS;
+        mask = (1 << bits) - 1;
+        blocks = new Object[4][];
+        offsets = new int[4];
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Returns (but does not remove) the element at index i
+    @Override
+    public E get(int i) throws IndexOutOfBoundsException {
+        checkIndex(i, size);
+        return elementAt(i);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TieredIterator();
+    }
+
+    // Performs the action on every element in index order, one block (ring) at a time
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        int mask = this.mask;
+        int remaining = size;
+        for (int b = 0; remaining > 0 && modCount == expectedModCount; b++) {
+            Object[] block = blocks[b];
+            int off = offsets[b];
+            int count = Math.min(remaining, mask + 1);
+            for (int x = 0; x < count && modCount == expectedModCount; x++) {
+                action.accept((E) block[(off + x) & mask]);
+            }
+            remaining -= count;
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(this::elementAt, () -> size, () -> modCount);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Replaces the element at index i with e, and returns the replaced element
+    @Override
+    public E set(int i, E e) throws IndexOutOfBoundsException {
+        checkIndex(i, size);
+        int b = i >>> bits;
+        int slot = (offsets[b] + i) & mask;
+        E temp = (E) blocks[b][slot];
+        blocks[b][slot] = e;
+        return temp;
+    }
+
+    // Inserts element e to be at index i, shifting all subsequent elements later
+    @Override
+    public void add(int i, E e) throws IndexOutOfBoundsException {
+        checkIndex(i, size + 1);
+        if (size == blockCount << bits) {           // Every block is full
+            if (blockCount == 2 << bits) {
+                rebuild(bits + 1);                  // Too many blocks: double B
+            }
+            if (size == blockCount << bits) {
+                addBlock();
+            }
+        }
+        int b = i >>> bits;
+        int last = blockCount - 1;
+        for (int c = last; c > b; c--) {            // Ripple one element into each later block
+            pushFirst(c, popLast(c - 1));
+        }
+        int count = (b == last) ? size - (last << bits) : mask;     // Block b has one free slot
+        insertLocal(b, i & mask, count, e);
+        size++;
+        modCount++;
+    }
+
+    // Removes/returns the element at index i, shifting subsequent elements earlier
+    @Override
+    public E remove(int i) throws IndexOutOfBoundsException {
+        checkIndex(i, size);
+        int b = i >>> bits;
+        int last = blockCount - 1;
+        int count = (b == last) ? size - (last << bits) : mask + 1;
+        E answer = removeLocal(b, i & mask, count);
+        for (int c = b + 1; c <= last; c++) {       // Pull one element back from each later block
+            pushLast(c - 1, popFirst(c));
+        }
+        size--;
+        modCount++;
+        if (size == last << bits) {
+            blocks[last] = null;                    // Last block is now empty
+            blockCount--;
+        }
+        if (bits > MIN_BLOCK_BITS && size < (1 << (2 * bits - 3))) {
+            rebuild(bits - 1);                      // Fewer than B * B / 8 elements: halve B
+        }
+        return answer;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Checks whether the given index is in the range [0, n - 1]
+    protected void checkIndex(int i, int n) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Returns the element at index i (which must be in range)
+    private E elementAt(int i) {
+        int b = i >>> bits;
+        return (E) blocks[b][(offsets[b] + i) & mask];  // (i & mask) folded into the ring wrap
+    }
+
+    // Throws if the list was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Appends an empty block to the directory
+    private void addBlock() {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, 2 * blocks.length);
+            offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+        }
+        blocks[blockCount] = new Object[mask + 1];
+        offsets[blockCount] = 0;
+        blockCount++;
+    }
+
+    // Removes and returns the last element of the (full) block b
+    private Object popLast(int b) {
+        int slot = (offsets[b] + mask) & mask;
+        Object e = blocks[b][slot];
+        blocks[b][slot] = null;
+        return e;
+    }
+
+    // Removes and returns the first element of block b
+    private Object popFirst(int b) {
+        int slot = offsets[b];
+        Object e = blocks[b][slot];
+        blocks[b][slot] = null;
+        offsets[b] = (slot + 1) & mask;
+        return e;
+    }
+
+    // Inserts e in front of the first element of block b (which has a free slot)
+    private void pushFirst(int b, Object e) {
+        offsets[b] = (offsets[b] - 1) & mask;
+        blocks[b][offsets[b]] = e;
+    }
+
+    // Appends e after the last element of block b (which holds B - 1 elements)
+    private void pushLast(int b, Object e) {
+        blocks[b][(offsets[b] + mask) & mask] = e;
+    }
+
+    // Inserts e at position j of block b holding count (< B) elements, shifting the shorter side
+    private void insertLocal(int b, int j, int count, Object e) {
+        Object[] block = blocks[b];
+        int off = offsets[b];
+        if (j < count / 2) {
+            off = (off - 1) & mask;                 // Move elements [0, j) one slot left
+            for (int x = 0; x < j; x++) {
+                block[(off + x) & mask] = block[(off + x + 1) & mask];
+            }
+            offsets[b] = off;
+        }
+        else {
+            for (int x = count; x > j; x--) {       // Move elements [j, count) one slot right
+                block[(off + x) & mask] = block[(off + x - 1) & mask];
+            }
+        }
+        block[(off + j) & mask] = e;
+    }
+
+    // Removes and returns position j of block b holding count elements, shifting the shorter side
+    private E removeLocal(int b, int j, int count) {
+        Object[] block = blocks[b];
+        int off = offsets[b];
+        E answer = (E) block[(off + j) & mask];
+        if (j < count / 2) {
+            for (int x = j; x > 0; x--) {           // Move elements [0, j) one slot right
+                block[(off + x) & mask] = block[(off + x - 1) & mask];
+            }
+            block[off] = null;                      // Help garbage collection
+            offsets[b] = (off + 1) & mask;
+        }
+        else {
+            for (int x = j; x < count - 1; x++) {   // Move elements (j, count) one slot left
+                block[(off + x) & mask] = block[(off + x + 1) & mask];
+            }
+            block[(off + count - 1) & mask] = null; // Help garbage collection
+        }
+        return answer;
+    }
+
+    // Redistributes all elements into blocks of 2^newBits slots
+    private void rebuild(int newBits) {
+        int newMask = (1 << newBits) - 1;
+        int newCount = (size + newMask) >>> newBits;
+        Object[][] newBlocks = new Object[Math.max(4, 2 * newCount)][];
+        for (int nb = 0; nb < newCount; nb++) {
+            newBlocks[nb] = new Object[newMask + 1];
+        }
+        for (int i = 0; i < size; i++) {
+            int b = i >>> bits;
+            newBlocks[i >>> newBits][i & newMask] = blocks[b][(offsets[b] + i) & mask];
+        }
+        blocks = newBlocks;
+        offsets = new int[newBlocks.length];        // Every new block starts at ring index 0
+        blockCount = newCount;
+        bits = newBits;
+        mask = newMask;
+    }
+}
@@ -0,0 +1,304 @@
+package org.dsahub;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
+/*
+    ARRAY CIRCULAR QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A FIFO queue that can also rotate, stored in a ring buffer: the elements occupy
+      `size` consecutive slots of the array, starting at the front index f and wrapping
+      around the end.
+    - When the ring is full (size equals the array length) there is no gap between the
+      rear and the front, so rotating k elements to the back only moves f forward by k:
+      rotate() and rotate(k) are O(1), independent of k.
+    - When the ring has free slots, rotating means moving elements across the gap. The
+      shorter way round is taken: either the first k elements move to the back, or the
+      last size - k elements move to the front, copied in contiguous runs with
+      System.arraycopy. So rotate(k) costs O(min(k, n - k)) element moves.
+    - trimToSize() shrinks the array to exactly size slots, which makes the ring full;
+      a round-robin scheduler whose set of participants is stable calls it once and
+      then rotates in O(1).
+    - The array doubles when an enqueue finds it full (up to ArrayQueue.MAX_CAPACITY).
+      Its length is not forced to a power of two (trimming would then leave a gap), so
+      indices wrap with a comparison instead of a bitmask.
+    - Iterable from front to rear: a fail-fast iterator, a forEach that walks the (at
+      most two) runs of the ring directly, and a spliterator that splits the index range
+      exactly (SIZED | SUBSIZED) for parallel streams. A rotation counts as a
+      modification.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) amortized
+        * Dequeue: O(1)
+        * Access: O(1)
+        * Rotate / Rotate(k): O(1) when full, otherwise O(1) / O(min(k, n - k))
+        * trimToSize: O(n)
+    - Space complexity: O(n)
+    - Use cases: Round-robin dispatch over a large, mostly fixed set of participants.
+
+    - Advantages: Contiguous storage (cache friendly), skipping ahead by k is O(1) for
+      a full ring.
+    - Disadvantages: Rotating a ring with free slots copies elements; growing copies
+      every element.
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - capacity(): Length of the underlying array
+    - first(): Returns (but does not remove) the front element
+    - enqueue(E e): Adds element e to the rear of the queue
+    - dequeue(): Removes and returns the front element of the queue
+    - rotate(): Rotates the front element of the queue to the back
+    - rotate(int k): Rotates the first k elements of the queue to the back
+    - trimToSize(): Shrinks the array to the number of elements
+    - iterator(): Returns a fail-fast iterator of the elements, from front to rear
+    - forEach(Consumer<? super E> action): Performs the action on every element, front to rear
+    - spliterator(): Returns a splittable, fail-fast spliterator of the elements
+
+ */
+
+
+public class ArrayCircularQueue<E> implements CircularQueueInterface<E>, Iterable<E> {
+
+    //-------------- NESTED RING ITERATOR CLASS ---------------
+    private class RingIterator implements Iterator<E> {
+
+        private int j = 0;                      // Position (from the front) of the next element
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size) {
+                throw new NoSuchElementException("No next element");
+            }
+            return data[wrap(f + j++)];
+        }
+    }
+    //---------- END OF NESTED RING ITERATOR CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 16;      // Default initial array capacity
+    private E[] data;                           // Generic array used for storage
+    private int f = 0;                          // Index of the front element
+    private int size = 0;                       // Current number of elements
+    private int modCount = 0;                   // Structural modifications (incl. rotations)
+
+
+    // CONSTRUCTORS
+
+    // Constructs queue with default initial capacity
+    public ArrayCircularQueue() {
+        this(CAPACITY);
+    }
+
+    // Constructs queue with given initial capacity
+    public ArrayCircularQueue(int capacity) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        data = (E[]) new Object[capacity];      // Safe cast; compiler may give warning
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return data.length;
+    }
+
+    @Override
+    public E first() {
+        if (isEmpty()) {
+            return null;
+        }
+        return data[f];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new RingIterator();
+    }
+
+    // Performs the action on every element from front to rear: the run from the front
+    // to the end of the array, then the wrapped-around run from index 0
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        int firstPart = Math.min(size, data.length - f);
+        for (int i = f; i < f + firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = 0; i < size - firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[wrap(f + i)], () -> size, () -> modCount);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(E e) {
+        if (size == data.length) {
+            if (data.length == ArrayQueue.MAX_CAPACITY) {
+                throw new IllegalStateException("Queue is full");
+            }
+            resize((int) Math.min(2L * data.length, ArrayQueue.MAX_CAPACITY));
+        }
+        data[wrap(f + size)] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E dequeue() {
+        if (isEmpty()) {
+            return null;
+        }
+        E answer = data[f];
+        data[f] = null;
+        f = wrap(f + 1);
+        size--;
+        modCount++;
+        return answer;
+    }
+
+    @Override
+    public void rotate() {
+        if (size == 0) {
+            return;
+        }
+        if (size < data.length) {
+            data[wrap(f + size)] = data[f];     // Move the front element into the gap
+            data[f] = null;
+        }
+        f = wrap(f + 1);
+        modCount++;
+    }
+
+    @Override
+    public void rotate(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Rotation distance must not be negative");
+        }
+        if (size == 0) {
+            return;
+        }
+        k %= size;
+        if (k == 0) {
+            return;
+        }
+        modCount++;
+        if (size == data.length) {
+            f = wrap(f + k);                    // No gap: the ring just starts elsewhere
+        }
+        else if (k <= size - k) {
+            moveFrontToBack(k);
+        }
+        else {
+            moveBackToFront(size - k);
+        }
+    }
+
+    // Shrinks the array to exactly the number of elements (at least 1), making the ring
+    // full so that every rotation is O(1)
+    public void trimToSize() {
+        int length = Math.max(size, 1);
+        if (length < data.length) {
+            resize(length);
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the queue was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Wraps an index in [0, 2 * data.length) into the array
+    private int wrap(int i) {
+        return (i >= data.length) ? i - data.length : i;
+    }
+
+    // Moves the first m elements, in order, into the gap after the rear (f moves forward).
+    // Copies contiguous runs, each bounded by the array end and by the gap size.
+    private void moveFrontToBack(int m) {
+        int gap = data.length - size;
+        while (m > 0) {
+            int rear = wrap(f + size);          // First free slot
+            int run = Math.min(m, gap);
+            run = Math.min(run, data.length - f);       // Source must not wrap
+            run = Math.min(run, data.length - rear);    // Destination must not wrap
+            System.arraycopy(data, f, data, rear, run);
+            Arrays.fill(data, f, f + run, null);
+            f = wrap(f + run);
+            m -= run;
+        }
+    }
+
+    // Moves the last m elements, in order, into the gap before the front (f moves back).
+    // Copies contiguous runs, each bounded by the array start and by the gap size.
+    private void moveBackToFront(int m) {
+        int gap = data.length - size;
+        while (m > 0) {
+            int end = wrap(f + size);           // One past the last element
+            if (end == 0) {
+                end = data.length;
+            }
+            int start = (f == 0) ? data.length : f;
+            int run = Math.min(m, gap);
+            run = Math.min(run, end);           // Source must not wrap
+            run = Math.min(run, start);         // Destination must not wrap
+            System.arraycopy(data, end - run, data, start - run, run);
+            Arrays.fill(data, end - run, end, null);
+            f = start - run;
+            m -= run;
+        }
+    }
+
+    // Moves the elements, in queue order, to a new array of the given length
+    private void resize(int length) {
+        E[] temp = (E[]) new Object[length];    // Safe cast; compiler may give warning
+        int firstPart = Math.min(size, data.length - f);
+        System.arraycopy(data, f, temp, 0, firstPart);                  // From front to array end
+        System.arraycopy(data, 0, temp, firstPart, size - firstPart);   // Wrapped-around remainder
+        data = temp;
+        f = 0;
+    }
+
+}
@@ -5,12 +5,14 @@ package org.dsahub;
     CIRCULAR QUEUE INTERFACE
     ------------------------------------------------------------------------------------
     Description:
-    - An interface that extends QueueInterface, introducing a rotate() method.
+    - An interface that extends QueueInterface, introducing rotate() methods.
     - The rotate() method rotates the front element of the queue to the back.
+    - The rotate(k) method does the same for the first k elements, as one operation, so
+      a round-robin scheduler can skip ahead without k separate calls.
 
     Characteristics:
     - Extends the basic functionality of QueueInterface.
-    - Introduces a rotate() method for circular rotation.
+    - Introduces rotate() and rotate(k) methods for circular rotation.
 
     Operation/Methods:
     - size()
@@ -19,6 +21,7 @@ package org.dsahub;
     - enqueue(E e): Adds element e to the rear of the queue
     - dequeue(): Removes and returns the front element of the queue
     - rotate(): Rotates the front element of the queue to the back
+    - rotate(int k): Rotates the first k elements of the queue to the back
 
  */
 
@@ -29,4 +32,9 @@ public interface CircularQueueInterface<E> extends QueueInterface<E> {
     // Does nothing if the queue is empty
     void rotate();
 
+    // Rotates the first k elements of the queue to the back, in order, with the same
+    // result as k calls to rotate(); k may exceed the size. Does nothing if the queue
+    // is empty. Throws IllegalArgumentException if k is negative.
+    void rotate(int k);
+
 }
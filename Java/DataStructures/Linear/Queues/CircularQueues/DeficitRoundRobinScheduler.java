@@ -0,0 +1,297 @@
+package org.dsahub;
+
+
+/*
+    DEFICIT ROUND ROBIN SCHEDULER
+    ------------------------------------------------------------------------------------
+    Description:
+    - Hands out slots (units of work, bandwidth, CPU time...) to a changing set of
+      weighted participants, such as tenants, with weighted deficit round robin (DRR).
+    - The participants sit in a CircularQueueInterface. The front participant is the
+      one whose turn it is:
+        * At the start of its turn, its deficit counter grows by its weight (quantum).
+        * It is handed slots as long as its deficit covers their cost; each slot's
+          cost is taken off the deficit.
+        * When the deficit no longer covers the next slot, the turn ends: the
+          participant is rotated to the back and keeps the leftover deficit for its
+          next turn, so expensive slots are paid for over several rounds.
+      Over time every participant receives service in proportion to its weight, with
+      at most one turn of delay, and a slot costs O(1) amortized.
+    - add() returns a Participant handle. remove(handle) is O(1): it only marks the
+      handle, and the participant is dropped the next time it reaches the front
+      (lazy removal), so removal never searches the queue.
+    - Batch dispatch: next(n, dest) hands out n unit-cost slots in one call, giving the
+      front participant as many consecutive slots as its deficit allows at a time.
+    - Instrumentation (always on, O(1) per slot):
+        * per participant: slots served, cost served, and the largest gap between
+          two of its slots, measured in slots handed out to anybody (its worst-case
+          scheduling latency);
+        * overall: slots dispatched, and Jain's fairness index over the active
+          participants' cost served divided by weight (weights as they were at the
+          time of each slot; 1.0 = perfectly fair, 1/n =
+          one participant got everything). The sums behind the index are kept up to
+          date on every slot, so reading it is O(1). Service is counted from when a
+          participant joined, so recent joiners pull the index down for a while.
+
+    Characteristics:
+    - Time complexity:
+        * add: O(1) amortized
+        * remove: O(1)
+        * next(): O(1) amortized for costs up to the weights (skipping removed
+          participants and ending turns is paid for by the adds and the slots)
+        * next(n, dest): O(n) amortized
+        * fairnessIndex: O(1)
+    - Space complexity: O(n) for n participants (removed ones linger until reached)
+    - Use cases: Multi-tenant request scheduling, weighted fair queuing of resources.
+
+    - Advantages: Weighted fairness with constant work per slot; O(1) membership changes.
+    - Disadvantages: Weights are integers; a slot costing much more than a participant's
+      weight takes several rounds of deficit before it is handed out.
+
+    Operation/Methods:
+    - size(): Number of active participants
+    - isEmpty()
+    - add(E element) / add(E element, int weight): Adds a participant, returns its handle
+    - remove(Participant<E> p): Removes a participant; false if it was already removed
+    - next(): Element of the participant that gets the next unit-cost slot (null if none)
+    - next(int cost): Same, for a slot of the given cost
+    - next(int n, E[] dest): Hands out up to n unit-cost slots, in order; returns how many
+    - dispatched(): Total number of slots handed out
+    - fairnessIndex(): Jain's fairness index of weighted service among active participants
+
+ */
+
+
+public class DeficitRoundRobinScheduler<E> {
+
+
+    //-------------- NESTED PARTICIPANT CLASS ---------------
+    // Handle of a participant: its element, weight, DRR state and statistics
+    public static final class Participant<E> {
+
+        private final E element;
+        private int weight;                     // Quantum added to the deficit per turn
+        private long deficit = 0;               // Cost the participant may still spend
+        private boolean inTurn = false;         // Whether its current turn has been credited
+        private boolean removed = false;
+        private long served = 0;                // Slots handed out to this participant
+        private long servedCost = 0;            // Total cost of those slots
+        private double share = 0;               // Sum of cost / weight over those slots
+        private long lastServed = -1;           // Dispatch number of its latest slot (-1 = none)
+        private final long joined;              // Dispatch count when it was added
+        private long maxGap = 0;                // Largest number of slots between two of its own
+
+        Participant(E element, int weight, long joined) {
+            this.element = element;
+            this.weight = weight;
+            this.joined = joined;
+        }
+
+        public E element() {
+            return element;
+        }
+
+        public int weight() {
+            return weight;
+        }
+
+        // Changes the weight; takes effect from the participant's next turn
+        public void setWeight(int weight) {
+            checkWeight(weight);
+            this.weight = weight;
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        public long served() {
+            return served;
+        }
+
+        public long servedCost() {
+            return servedCost;
+        }
+
+        // Largest number of slots handed out to others between two of this participant's
+        // slots (or between joining and its first slot)
+        public long maxGap() {
+            return maxGap;
+        }
+    }
+    //---------- END OF NESTED PARTICIPANT CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // a CircularQueueInterface to a scheduler
+    private final CircularQueueInterface<Participant<E>> queue;
+    private int size = 0;                       // Number of active (not removed) participants
+    private long dispatched = 0;                // Slots handed out so far
+    private double sum = 0;                     // Sum of normalized service of active participants
+    private double sumOfSquares = 0;            // Sum of its squares
+
+
+    // CONSTRUCTORS
+
+    // Constructs a scheduler backed by an ArrayCircularQueue
+    public DeficitRoundRobinScheduler() {
+        this(new ArrayCircularQueue<>());
+    }
+
+    // Constructs a scheduler backed by the given (empty) circular queue
+    public DeficitRoundRobinScheduler(CircularQueueInterface<Participant<E>> queue) {
+        if (!queue.isEmpty()) {
+            throw new IllegalArgumentException("Queue must be empty");
+        }
+        this.queue = queue;
+    }
+
+
+    // ACCESS METHODS
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long dispatched() {
+        return dispatched;
+    }
+
+    // Jain's fairness index (sum x)^2 / (n * sum x^2) over x = cost served / weight of the
+    // active participants; 1.0 if there are none or nobody has been served yet
+    public double fairnessIndex() {
+        if (size == 0 || sumOfSquares <= 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, sum * sum / (size * sumOfSquares));   // Clamp rounding error
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Adds a participant with weight 1
+    public Participant<E> add(E element) {
+        return add(element, 1);
+    }
+
+    // Adds a participant with the given weight; it joins at the back of the round
+    public Participant<E> add(E element, int weight) {
+        checkWeight(weight);
+        Participant<E> p = new Participant<>(element, weight, dispatched);
+        queue.enqueue(p);
+        size++;
+        return p;
+    }
+
+    // Removes the participant in O(1); it is dropped from the queue when next reached.
+    // Returns false if it was already removed.
+    public boolean remove(Participant<E> p) {
+        if (p.removed) {
+            return false;
+        }
+        p.removed = true;
+        size--;
+        double x = p.share;
+        sum -= x;
+        sumOfSquares -= x * x;
+        return true;
+    }
+
+    // Returns the element of the participant that gets the next unit-cost slot,
+    // or null if there are no participants
+    public E next() {
+        return next(1);
+    }
+
+    // Returns the element of the participant that gets the next slot of the given cost,
+    // or null if there are no participants
+    public E next(int cost) {
+        if (cost < 1) {
+            throw new IllegalArgumentException("Cost must be positive");
+        }
+        Participant<E> p = turnHolder(cost);
+        if (p == null) {
+            return null;
+        }
+        serve(p, 1, cost);
+        return p.element;
+    }
+
+    // Hands out up to n unit-cost slots, storing the elements in dest[0..n) in slot order;
+    // returns the number of slots handed out (less than n only if there are no participants)
+    public int next(int n, E[] dest) {
+        if (n < 0 || n > dest.length) {
+            throw new IllegalArgumentException("n must be between 0 and dest.length");
+        }
+        int filled = 0;
+        while (filled < n) {
+            Participant<E> p = turnHolder(1);
+            if (p == null) {
+                break;
+            }
+            int run = (int) Math.min(n - filled, p.deficit);   // Rest of its turn, at most
+            for (int i = 0; i < run; i++) {
+                dest[filled + i] = p.element;
+            }
+            serve(p, run, run);
+            filled += run;
+        }
+        return filled;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Brings to the front the participant that may spend `cost` now: drops removed
+    // participants and ends turns whose deficit is too small; null if there are none
+    private Participant<E> turnHolder(int cost) {
+        while (size > 0) {
+            Participant<E> p = queue.first();
+            if (p.removed) {
+                queue.dequeue();                // Lazy removal
+                continue;
+            }
+            if (!p.inTurn) {
+                p.deficit += p.weight;          // Start of its turn
+                p.inTurn = true;
+            }
+            if (p.deficit >= cost) {
+                return p;
+            }
+            p.inTurn = false;                   // End of its turn; it keeps the deficit
+            queue.rotate();
+        }
+        while (!queue.isEmpty()) {
+            queue.dequeue();                    // Only removed participants are left
+        }
+        return null;
+    }
+
+    // Charges `slots` consecutive slots of total `cost` to p and updates the statistics
+    private void serve(Participant<E> p, int slots, long cost) {
+        long since = (p.lastServed < 0) ? p.joined : p.lastServed + 1;
+        p.maxGap = Math.max(p.maxGap, dispatched - since);   // Slots others got before this one
+        double before = p.share;
+        double after = before + (double) cost / p.weight;
+        p.deficit -= cost;
+        p.served += slots;
+        p.servedCost += cost;
+        p.share = after;
+        dispatched += slots;
+        p.lastServed = dispatched - 1;
+        sum += after - before;
+        sumOfSquares += after * after - before * before;
+    }
+
+    private static void checkWeight(int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight must be positive");
+        }
+    }
+}
@@ -1,52 +1,116 @@
 package org.dsahub;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
 /*
-    LinkedCircularQueue
+    LINKED CIRCULAR QUEUE
     ------------------------------------------------------------------------------------
-    A concrete implementation of the CircularQueue interface using a circular linked list
-    as its underlying storage mechanism. The LinkedCircularQueue benefits from the dynamic
-    nature of circularly linked lists, allowing to rotate elements efficiently without
-    reallocating or relinking nodes.
+    Description:
+    - A FIFO queue that can also rotate: the front element moves to the back without
+      being removed and re-added, which is the core step of round-robin scheduling.
+    - Implemented using the adapter pattern to adapt a CircularlyLinkedList to the
+      CircularQueueInterface. The list only keeps a tail reference (the head is the node
+      after it), so rotate() is a single pointer move and never relinks a node.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1)
+        * Dequeue: O(1)
+        * Access: O(1)
+        * Rotate: O(1)
+        * Rotate(k): O(k % n) (steps forward through the nodes)
+    - Space complexity: O(n)
+    - Use cases: Round-robin scheduling over a set of participants that changes often.
 
-    Advantages:
-    - Dynamic Size: The queue can grow or shrink as required.
-    - Efficient Rotations: The rotate operation is performed in consistent time.
+    - Advantages: Dynamic size, constant-time rotation, no resizing.
+    - Disadvantages: One node per element; rotate(k) walks the list (see
+      ArrayCircularQueue for an O(1) version).
 
-    Disadvantages:
-    - Memory Overhead: Each nde requires additional memory for its pointer, which can be
-      an overhead when compared to an Array-based CircularQueue.
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - first(): Returns (but does not remove) the front element
+    - enqueue(E e): Adds element e to the rear of the queue
+    - dequeue(): Removes and returns the front element of the queue
+    - rotate(): Rotates the front element of the queue to the back
+    - rotate(int k): Rotates the first k elements of the queue to the back
+    - iterator(): Returns a fail-fast iterator of the elements, from front to rear
+    - forEach(Consumer<? super E> action): Performs the action on every element, front to rear
 
  */
 
-public class LinkedCircularQueue<E> implements CircularQueue<E> {
 
-    @Override
-    public void rotate() {
+public class LinkedCircularQueue<E> implements CircularQueueInterface<E>, Iterable<E> {
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // the CircularlyLinkedList to the CircularQueueInterface
+    private CircularlyLinkedList<E> list = new CircularlyLinkedList<>();    // An empty list
 
-    }
+
+    // CONSTRUCTORS
+
+    public LinkedCircularQueue() {}             // New queue relies on the initially empty list
+
+
+    // ACCESS METHODS
 
     @Override
     public int size() {
-        return 0;
+        return list.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return false;
+        return list.isEmpty();
     }
 
     @Override
-    public void enqueue(E e) {
+    public E first() {
+        return list.first();
+    }
 
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
     }
 
     @Override
-    public E first() {
-        return null;
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(E e) {
+        list.addLast(e);
     }
 
     @Override
     public E dequeue() {
-        return null;
+        return list.removeFirst();
     }
+
+    @Override
+    public void rotate() {
+        list.rotate();
+    }
+
+    @Override
+    public void rotate(int k) {
+        list.rotate(k);
+    }
+
 }
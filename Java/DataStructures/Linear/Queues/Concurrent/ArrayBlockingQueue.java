@@ -0,0 +1,270 @@
+package org.dsahub;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/*
+    ARRAY BLOCKING QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded, thread-safe FIFO queue for producer/consumer pipelines, implementing
+      BlockingQueueInterface by adapting a fixed-capacity ArrayQueue.
+    - All access to the ArrayQueue happens under one ReentrantLock. Two condition
+      variables let threads sleep instead of spinning:
+        * notEmpty: consumers wait here in take/poll; signalled by every insert.
+        * notFull:  producers wait here in put/offer; signalled by every removal.
+    - Spin-then-park: parking and waking a thread costs several microseconds, while in a
+      busy pipeline the next element is often only nanoseconds away. So before going to
+      sleep, put/take/offer/poll spin for up to SPIN_TRIES checks of a volatile element count
+      (without taking the lock). Short gaps are bridged by spinning at low latency; long
+      gaps end in a park, which costs no CPU.
+    - Non-blocking QueueInterface methods are available too: enqueue throws when full,
+      dequeue returns null when empty.
+
+    Characteristics:
+    - Time complexity:
+        * put / take / offer / poll / enqueue / dequeue: O(1) plus any waiting
+        * drainTo: O(k) for k moved elements, under a single lock acquisition
+    - Space complexity: O(capacity)
+    - Use cases: Handing work between pipeline stages with back-pressure.
+
+    - Advantages: Idle consumers and blocked producers use no CPU; bounded memory.
+    - Disadvantages: One lock shared by producers and consumers; null elements are not
+      allowed.
+
+    Operation/Methods:
+    - size()
+    - isEmpty()
+    - capacity(): Maximum number of elements
+    - first(): Returns (but does not remove) the front element (null if empty)
+    - enqueue(E e): Adds e, throws IllegalStateException if the queue is full
+    - dequeue(): Removes and returns the front element (null if empty)
+    - put(E e) / take(): Blocking insert / remove
+    - offer(E e, timeout, unit) / poll(timeout, unit): Insert / remove with a time limit
+    - drainTo(QueueInterface<? super E> target, int maxElements): Bulk removal
+
+ */
+
+
+public class ArrayBlockingQueue<E> implements BlockingQueueInterface<E> {
+
+    public static final int CAPACITY = 1024;    // Default capacity
+    public static final int SPIN_TRIES = 128;   // Lock-free checks before parking
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // the ArrayQueue to the BlockingQueueInterface
+    private final ArrayQueue<E> queue;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();    // Signalled when an element is added
+    private final Condition notFull = lock.newCondition();     // Signalled when an element is removed
+    private volatile int count = 0;             // Copy of queue.size(), readable without the lock
+
+
+    // CONSTRUCTORS
+
+    public ArrayBlockingQueue() {
+        this(CAPACITY);
+    }
+
+    public ArrayBlockingQueue(int capacity) {
+        queue = new ArrayQueue<>(capacity);     // Validates the capacity
+        this.capacity = capacity;
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public E first() {
+        lock.lock();
+        try {
+            return queue.first();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    // PUBLIC UPDATE METHODS (NON-BLOCKING)
+
+    @Override
+    public void enqueue(E e) {
+        checkNotNull(e);
+        lock.lock();
+        try {
+            if (count == capacity) {
+                throw new IllegalStateException("Queue is full");
+            }
+            insert(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        lock.lock();
+        try {
+            return (count == 0) ? null : extract();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    // PUBLIC UPDATE METHODS (BLOCKING)
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        checkNotNull(e);
+        spinWhile(true);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                notFull.await();
+            }
+            insert(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        spinWhile(false);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(e);
+        long nanos = unit.toNanos(timeout);
+        spinWhile(true);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                if (nanos <= 0) {
+                    return false;               // Timed out
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(e);
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        spinWhile(false);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;                // Timed out
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(QueueInterface<? super E> target, int maxElements) {
+        if (target == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        lock.lock();
+        int moved = 0;
+        try {
+            while (moved < maxElements && !queue.isEmpty()) {
+                target.enqueue(queue.first());  // If target throws, the element stays here
+                queue.dequeue();
+                moved++;
+            }
+            return moved;
+        }
+        finally {
+            if (moved > 0) {
+                count = queue.size();
+                notFull.signalAll();            // Up to `moved` producers can go ahead
+            }
+            lock.unlock();
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Adds e and wakes a consumer; lock must be held and the queue not full
+    private void insert(E e) {
+        queue.enqueue(e);
+        count = queue.size();
+        notEmpty.signal();
+    }
+
+    // Removes the first element and wakes a producer; lock must be held and the queue not empty
+    private E extract() {
+        E answer = queue.dequeue();
+        count = queue.size();
+        notFull.signal();
+        return answer;
+    }
+
+    // Spins (without the lock) while the queue is full (forPut) or empty (!forPut),
+    // giving up after SPIN_TRIES checks
+    private void spinWhile(boolean forPut) {
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            int c = count;
+            if (forPut ? c < capacity : c > 0) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void checkNotNull(Object e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+    }
+}
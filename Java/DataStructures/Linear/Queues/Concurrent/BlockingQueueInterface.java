@@ -0,0 +1,49 @@
+package org.dsahub;
+
+import java.util.concurrent.TimeUnit;
+
+
+/*
+    BLOCKING QUEUE INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A thread-safe QueueInterface whose producers can wait for space and whose
+      consumers can wait for elements, instead of spin-polling.
+    - The QueueInterface methods keep their non-blocking meaning: enqueue throws
+      IllegalStateException("Queue is full") when there is no space, dequeue and first
+      return null when the queue is empty.
+    - Null elements are not allowed, since null means "no element" for dequeue and poll.
+
+    Methods:
+    - put(E e): Inserts e, waiting for space if the queue is full.
+    - take(): Removes and returns the first element, waiting for one if the queue is empty.
+    - offer(E e, long timeout, TimeUnit unit): Inserts e, waiting at most the given time
+      for space; returns false if it timed out.
+    - poll(long timeout, TimeUnit unit): Removes and returns the first element, waiting at
+      most the given time; returns null if it timed out.
+    - drainTo(QueueInterface<? super E> target, int maxElements): Moves up to maxElements
+      elements to target in one go; returns how many were moved.
+*/
+
+
+public interface BlockingQueueInterface<E> extends QueueInterface<E> {
+
+    // Inserts e at the rear of the queue, waiting for space if necessary
+    void put(E e) throws InterruptedException;
+
+    // Removes and returns the first element of the queue, waiting for one if necessary
+    E take() throws InterruptedException;
+
+    // Inserts e at the rear of the queue, waiting up to the timeout for space;
+    // returns false if no space became available in time
+    boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException;
+
+    // Removes and returns the first element, waiting up to the timeout for one;
+    // returns null if the queue stayed empty
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    // Removes up to maxElements elements and adds them to target, in FIFO order;
+    // returns the number of elements moved
+    int drainTo(QueueInterface<? super E> target, int maxElements);
+
+}
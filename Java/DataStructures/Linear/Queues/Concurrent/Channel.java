@@ -0,0 +1,401 @@
+package org.dsahub;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/*
+    CHANNEL
+    ------------------------------------------------------------------------------------
+    Description:
+    - A closable, thread-safe FIFO channel for handing messages between threads, in the
+      style of Go channels, built by adapting a LinkedQueue.
+    - Made for virtual threads: no method uses a synchronized block or Object.wait, which
+      would pin a virtual thread to its carrier thread while it waits. All waiting is
+      done with ReentrantLock conditions and LockSupport.park, which unmount the virtual
+      thread, so a million blocked receivers cost memory but no carrier threads.
+    - A channel is unbounded by default; with a capacity, send waits while it is full.
+    - close() ends the stream of messages: later sends throw, while receivers still get
+      every buffered message and then null. This lets a consumer loop run
+      `while ((m = channel.receive()) != null)` without poison pills.
+    - select(channels...) waits on several channels at once and receives from whichever
+      has a message first. A selecting thread links a waiter node into every channel it
+      waits for, then parks. Each send unlinks and signals one waiter of its channel
+      (close signals all of them). All of a selector's nodes share one volatile
+      signalled flag, set before the unpark, and the selector parks until it sees the
+      flag: an unpark permit alone can be used up by a lock acquisition in the scan.
+      Because one thread may be woken by two channels at once, a selector that leaves
+      passes the wake-up on to another waiter of every channel that still holds
+      messages, so no message is left with only parked selectors. Channels are scanned
+      from a random start so no channel is starved.
+
+    Characteristics:
+    - Time complexity:
+        * send / receive / trySend / tryReceive: O(1) plus any waiting
+        * select: O(k) per scan of k channels (waiter nodes unlink in O(1))
+    - Space complexity: O(n) for n buffered messages
+    - Use cases: Pipelines and fan-in/fan-out between (virtual) threads.
+
+    - Advantages: Never pins carrier threads; close() gives a clean end-of-stream signal.
+    - Disadvantages: One lock per channel; select allocates a waiter node per channel
+      each time it parks; null messages are not allowed.
+
+    Operation/Methods:
+    - size(): Number of buffered messages
+    - isEmpty()
+    - capacity(): Maximum number of buffered messages (UNBOUNDED if none)
+    - isClosed()
+    - send(E e): Adds e, waiting for space if the channel is full; throws
+      IllegalStateException if the channel is closed
+    - trySend(E e): Adds e only if there is space right now; returns false otherwise
+    - receive(): Removes and returns the next message, waiting for one; returns null once
+      the channel is closed and empty
+    - tryReceive(): Removes and returns the next message, or null if there is none now
+    - close(): Closes the channel; idempotent
+    - select(Channel... channels): Receives from the first channel that has a message;
+      returns null once all channels are closed and empty
+
+ */
+
+
+public class Channel<E> {
+
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+
+    //-------------- NESTED SELECTED CLASS ---------------
+    // Result of a select: the message and the position of the channel it came from
+    public static final class Selected<E> {
+
+        private final int index;
+        private final E value;
+
+        Selected(int index, E value) {
+            this.index = index;
+            this.value = value;
+        }
+
+        // Position of the channel in the array passed to select
+        public int index() {
+            return index;
+        }
+
+        public E value() {
+            return value;
+        }
+    }
+    //---------- END OF NESTED SELECTED CLASS ------------
+
+
+    //-------------- NESTED SELECTOR CLASS ---------------
+    // A thread in select; shared by all its waiter nodes, so a wake-up through any
+    // channel is recorded in the flag even if the unpark permit is used up elsewhere
+    private static final class Selector {
+
+        private final Thread thread;
+        private volatile boolean signalled;
+
+        Selector(Thread thread) {
+            this.thread = thread;
+        }
+
+        void signal() {
+            signalled = true;                   // Before the unpark: the thread re-checks it
+            LockSupport.unpark(thread);
+        }
+    }
+    //---------- END OF NESTED SELECTOR CLASS ------------
+
+
+    //-------------- NESTED WAITER CLASS ---------------
+    // A selector's node in the circular waiter list of one channel
+    private static final class Waiter {
+
+        private final Selector selector;
+        private Waiter prev = this;
+        private Waiter next = this;
+
+        Waiter(Selector selector) {
+            this.selector = selector;
+        }
+
+        boolean isLinked() {
+            return next != this;
+        }
+    }
+    //---------- END OF NESTED WAITER CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // the LinkedQueue to a channel
+    private final LinkedQueue<E> buffer = new LinkedQueue<>();
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();    // Receivers wait here
+    private final Condition notFull = lock.newCondition();     // Senders wait here (bounded only)
+    private final Waiter waiters = new Waiter(null);          // Sentinel of the selector list
+    private volatile boolean closed = false;
+
+
+    // CONSTRUCTORS
+
+    public Channel() {
+        this(UNBOUNDED);
+    }
+
+    public Channel(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+
+    // ACCESS METHODS
+
+    public int size() {
+        lock.lock();
+        try {
+            return buffer.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Adds e, waiting while the channel is full; throws if the channel is (or gets) closed
+    public void send(E e) throws InterruptedException {
+        checkNotNull(e);
+        lock.lockInterruptibly();
+        try {
+            while (!closed && buffer.size() == capacity) {
+                notFull.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("Channel is closed");
+            }
+            insert(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // Adds e if there is space; returns false if the channel is full
+    public boolean trySend(E e) {
+        checkNotNull(e);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Channel is closed");
+            }
+            if (buffer.size() == capacity) {
+                return false;
+            }
+            insert(e);
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes and returns the next message, waiting for one;
+    // returns null once the channel is closed and every message has been received
+    public E receive() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+            return extract();                   // null only if closed and drained
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes and returns the next message, or null if there is none right now
+    public E tryReceive() {
+        lock.lock();
+        try {
+            return extract();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // Closes the channel: wakes every waiting sender (which then throws), receiver and selector
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            wakeSelectors();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // Receives from the first of the channels that has a message, waiting until one does;
+    // returns null once all the channels are closed and empty
+    @SafeVarargs
+    public static <E> Selected<E> select(Channel<? extends E>... channels) throws InterruptedException {
+        int n = channels.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("No channels to select from");
+        }
+        Channel<?>[] all = new Channel<?>[n];   // Copied: the varargs array itself never escapes
+        for (int i = 0; i < n; i++) {
+            all[i] = channels[i];
+        }
+        Selector self = new Selector(Thread.currentThread());
+        Waiter[] nodes = new Waiter[n];
+        int start = ThreadLocalRandom.current().nextInt(n);
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            // Scan every channel; each open, empty one gets a waiter node of ours.
+            // Checking and linking under the channel's lock means a send that comes
+            // after the check is guaranteed to find (and signal) us.
+            self.signalled = false;             // No node is linked: nobody can signal now
+            boolean anyOpen = false;
+            for (int k = 0; k < n; k++) {
+                int i = (start + k) % n;
+                Channel<? extends E> channel = channels[i];
+                E value;
+                channel.lock.lock();
+                try {
+                    value = channel.extract();
+                    if (value == null && !channel.closed) {
+                        nodes[i] = new Waiter(self);
+                        channel.link(nodes[i]);
+                        anyOpen = true;
+                    }
+                }
+                finally {
+                    channel.lock.unlock();
+                }
+                if (value != null) {
+                    leave(all, nodes);          // Outside the lock: leave takes each lock in turn
+                    return new Selected<>(i, value);
+                }
+            }
+            if (!anyOpen) {
+                return null;                    // All closed and drained (nothing linked)
+            }
+            while (!self.signalled && !Thread.currentThread().isInterrupted()) {
+                LockSupport.park(Channel.class); // Until a send or close signals us
+            }
+            leave(all, nodes);
+            start = (start + 1) % n;            // Rotate so no channel is favoured
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Adds e and wakes a receiver and a selector; lock must be held and the channel not full
+    private void insert(E e) {
+        buffer.enqueue(e);
+        notEmpty.signal();
+        wakeSelector();
+    }
+
+    // Removes the next message (null if empty) and wakes a sender; lock must be held
+    private E extract() {
+        E answer = buffer.dequeue();
+        if (answer != null && capacity != UNBOUNDED) {
+            notFull.signal();
+        }
+        return answer;
+    }
+
+    // Links the waiter at the end of this channel's selector list; lock must be held
+    private void link(Waiter w) {
+        w.prev = waiters.prev;
+        w.next = waiters;
+        waiters.prev.next = w;
+        waiters.prev = w;
+    }
+
+    // Unlinks the waiter from this channel's selector list; lock must be held
+    private static void unlink(Waiter w) {
+        w.prev.next = w.next;
+        w.next.prev = w.prev;
+        w.prev = w;
+        w.next = w;
+    }
+
+    // Unlinks and signals the longest waiting selector, if any; lock must be held
+    private void wakeSelector() {
+        Waiter w = waiters.next;
+        if (w != waiters) {
+            unlink(w);
+            w.selector.signal();
+        }
+    }
+
+    // Unlinks and signals every selector; lock must be held
+    private void wakeSelectors() {
+        while (waiters.isLinked()) {
+            wakeSelector();
+        }
+    }
+
+    // Unlinks the caller's waiter nodes (clearing the array) and passes a wake-up on to
+    // another selector of every channel that still holds messages, in case the caller
+    // consumed a wake-up meant for one of them
+    private static void leave(Channel<?>[] channels, Waiter[] nodes) {
+        for (int i = 0; i < channels.length; i++) {
+            Channel<?> channel = channels[i];
+            channel.lock.lock();
+            try {
+                if (nodes[i] != null) {
+                    if (nodes[i].isLinked()) {
+                        unlink(nodes[i]);
+                    }
+                    nodes[i] = null;
+                }
+                if (!channel.buffer.isEmpty()) {
+                    channel.wakeSelector();
+                }
+            }
+            finally {
+                channel.lock.unlock();
+            }
+        }
+    }
+
+    private static void checkNotNull(Object e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null messages are not supported");
+        }
+    }
+}
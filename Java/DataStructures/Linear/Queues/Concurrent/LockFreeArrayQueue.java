@@ -0,0 +1,187 @@
+package org.dsahub;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/*
+    LOCK-FREE ARRAY QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded, lock-free, multi-producer/multi-consumer (MPMC) FIFO queue.
+    - Storage is a power-of-two ring of slots. Every slot carries a sequence number that
+      tells producers and consumers whose turn it is to use that slot:
+        * sequence == pos:      The slot is free for the producer claiming position pos
+        * sequence == pos + 1:  The slot holds the element for the consumer at position pos
+      A producer claims a position by CAS on the tail counter, stores its element, then
+      publishes it by advancing the slot's sequence. Consumers do the same on the head
+      counter and hand the slot back to producers one lap (capacity) later.
+    - Producers only contend with producers, and consumers with consumers; neither side
+      ever blocks the other.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) (lock-free, retries only under contention)
+        * Dequeue: O(1) (lock-free, retries only under contention)
+        * Access: O(1)
+        * Search: O(n)
+    - Space complexity: O(capacity)
+    - Use cases: Handing work between many threads with a known upper bound on backlog.
+
+    - Advantages: No locks, no allocation per element, predictable memory use.
+    - Disadvantages: Fixed capacity, size() is only a snapshot under concurrency,
+      null elements are not allowed (null signals an empty queue).
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - capacity(): Returns the maximum number of elements
+    - first(): Returns (but does not remove) the front element
+    - offer(E e): Adds element e to the rear of the queue, returning false if full
+    - enqueue(E e): Adds element e to the rear of the queue, throwing if full
+    - dequeue(): Removes and returns the front element of the queue
+
+ */
+
+
+public class LockFreeArrayQueue<E> implements QueueInterface<E> {
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 1024;    // Default capacity
+    private final AtomicReferenceArray<E> buffer;   // Element slots
+    private final AtomicLongArray sequences;    // Per-slot sequence numbers
+    private final int mask;                     // buffer.length() - 1, used to wrap positions
+    private final AtomicLong head = new AtomicLong();    // Next position to dequeue
+    private final AtomicLong tail = new AtomicLong();    // Next position to enqueue
+
+
+    // CONSTRUCTORS
+
+    // Constructs queue with default capacity
+    public LockFreeArrayQueue() {
+        this(CAPACITY);
+    }
+
+    // Constructs queue with given capacity (rounded up to a power of two, at least 2)
+    public LockFreeArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        int length = ArrayQueue.ceilingPowerOfTwo(Math.max(2, capacity));
+        buffer = new AtomicReferenceArray<>(length);
+        sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);                // Slot i is free for the producer at position i
+        }
+        mask = length - 1;
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        while (true) {
+            long h = head.get();
+            long t = tail.get();
+            if (h == head.get()) {              // Consistent snapshot of both counters
+                return (int) Math.max(0, Math.min(t - h, mask + 1));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return first() == null;
+    }
+
+    // Returns the maximum number of elements the queue can hold
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public E first() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) (pos & mask);
+            long seq = sequences.get(index);
+            if (seq < pos + 1) {
+                return null;                    // Front slot not yet published: empty
+            }
+            if (seq == pos + 1) {
+                E answer = buffer.get(index);
+                if (head.get() == pos) {        // Nobody dequeued it while we were reading
+                    return answer;
+                }
+            }
+        }
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Adds element e to the rear of the queue, returning false (instead of throwing) if full
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;                      // Claimed position pos
+                }
+                pos = tail.get();
+            }
+            else if (diff < 0) {
+                return false;                   // Slot still holds an element one lap behind: full
+            }
+            else {
+                pos = tail.get();               // Another producer took pos; catch up
+            }
+        }
+        buffer.lazySet(index, e);
+        sequences.lazySet(index, pos + 1);      // Publish to the consumer at position pos
+        return true;
+    }
+
+    @Override
+    public void enqueue(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        long pos = head.get();
+        int index;
+        while (true) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    break;                      // Claimed position pos
+                }
+                pos = head.get();
+            }
+            else if (diff < 0) {
+                return null;                    // Slot not yet published: empty
+            }
+            else {
+                pos = head.get();               // Another consumer took pos; catch up
+            }
+        }
+        E answer = buffer.get(index);
+        buffer.lazySet(index, null);            // Help garbage collection
+        sequences.lazySet(index, pos + mask + 1);   // Free the slot for the producer one lap ahead
+        return answer;
+    }
+}
@@ -0,0 +1,166 @@
+package org.dsahub;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+
+/*
+    LOCK-FREE LINKED QUEUE (MICHAEL-SCOTT)
+    ------------------------------------------------------------------------------------
+    Description:
+    - An unbounded, lock-free, multi-producer/multi-consumer (MPMC) FIFO queue.
+    - A singly linked list that always starts with a dummy node. The head points at the
+      dummy and the tail at the last node (or, briefly, the node just before it).
+        * Enqueue links the new node after the last node with a CAS on its next field,
+          then swings the tail forward.
+        * Dequeue swings the head forward with a CAS; the old first node becomes the
+          new dummy.
+      Any thread that finds the tail lagging behind helps advance it, so no thread can
+      stall the others.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) (lock-free, retries only under contention)
+        * Dequeue: O(1) (lock-free, retries only under contention)
+        * Access: O(1)
+        * Search: O(n)
+        * Size: O(n) (walks the list)
+    - Space complexity: O(n)
+    - Use cases: Handing work between many threads when the backlog has no useful bound.
+
+    - Advantages: No locks, no capacity limit.
+    - Disadvantages: One node allocation per element, size() is O(n) and only a snapshot
+      under concurrency, null elements are not allowed (null signals an empty queue).
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - first(): Returns (but does not remove) the front element
+    - enqueue(E e): Adds element e to the rear of the queue
+    - dequeue(): Removes and returns the front element of the queue
+
+ */
+
+
+public class LockFreeLinkedQueue<E> implements QueueInterface<E> {
+
+
+    //-------------- NESTED NODE CLASS ---------------
+    private static class Node<E> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private volatile E element;             // Volatile, so first() reads it before re-checking head
+        private volatile Node<E> next;          // Reference to the subsequent node in the list
+
+        public Node(E e) {
+            element = e;
+        }
+
+        public boolean casNext(Node<E> expected, Node<E> update) {
+            return NEXT.compareAndSet(this, expected, update);
+        }
+    }
+    //---------- END OF NESTED NODE CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final AtomicReference<Node<E>> head;    // Dummy node before the front element
+    private final AtomicReference<Node<E>> tail;    // Last node (or the one just before it)
+
+
+    // CONSTRUCTORS
+
+    // Constructs a new empty queue
+    public LockFreeLinkedQueue() {
+        Node<E> dummy = new Node<>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (Node<E> node = head.get().next; node != null && count < Integer.MAX_VALUE; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+
+    @Override
+    public E first() {
+        while (true) {
+            Node<E> h = head.get();
+            Node<E> first = h.next;
+            if (first == null) {
+                return null;
+            }
+            E answer = first.element;
+            if (h == head.get()) {              // first was not dequeued while we were reading
+                return answer;
+            }
+        }
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+        Node<E> newest = new Node<>(e);
+        while (true) {
+            Node<E> last = tail.get();
+            Node<E> next = last.next;
+            if (last != tail.get()) {
+                continue;                       // Tail moved while reading; start over
+            }
+            if (next == null) {
+                if (last.casNext(null, newest)) {
+                    tail.compareAndSet(last, newest);   // May fail: someone already helped
+                    return;
+                }
+            }
+            else {
+                tail.compareAndSet(last, next); // Tail is lagging; help it forward
+            }
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        while (true) {
+            Node<E> h = head.get();
+            Node<E> last = tail.get();
+            Node<E> first = h.next;
+            if (h != head.get()) {
+                continue;                       // Head moved while reading; start over
+            }
+            if (first == null) {
+                return null;                    // Nothing after the dummy: empty
+            }
+            if (h == last) {
+                tail.compareAndSet(last, first);    // Tail is lagging; help it forward
+                continue;
+            }
+            E answer = first.element;
+            if (head.compareAndSet(h, first)) {
+                first.element = null;           // first is the new dummy; help garbage collection
+                return answer;
+            }
+        }
+    }
+}
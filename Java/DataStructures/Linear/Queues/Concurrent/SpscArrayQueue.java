@@ -0,0 +1,261 @@
+package org.dsahub;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/*
+    SPSC ARRAY QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A bounded, wait-free, single-producer/single-consumer (SPSC) FIFO queue with the
+      same ring layout as ArrayQueue: a power-of-two array indexed by counter & mask.
+    - Exactly one thread may enqueue (enqueue/offer/fill) and exactly one thread may
+      dequeue (dequeue/first/drain) at a time. With that restriction no CAS is needed:
+        * The producer owns the tail counter and publishes elements with a release store.
+        * The consumer owns the head counter and frees slots with a release store.
+    - Each side keeps a private cached copy of the other side's counter and only re-reads
+      the shared one when the cache says the queue looks full (producer) or empty
+      (consumer), so the two cores rarely touch each other's cache line.
+    - The head and tail counters are separated by padding (see the field classes below)
+      so producer and consumer writes never land on the same cache line (false sharing).
+    - fill() and drain() move a whole batch of elements with a single release store.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) (wait-free)
+        * Dequeue: O(1) (wait-free)
+        * fill/drain: O(k) for k elements, one counter publication per batch
+    - Space complexity: O(capacity)
+    - Use cases: Pipelines with one producer and one consumer thread per partition.
+
+    - Advantages: No locks, no CAS, no allocation per element, batched publication.
+    - Disadvantages: Fixed capacity, unsafe with more than one producer or consumer,
+      null elements are not allowed (null signals an empty queue).
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - capacity(): Returns the maximum number of elements
+    - first(): Returns (but does not remove) the front element (consumer only)
+    - offer(E e): Adds element e to the rear, returning false if full (producer only)
+    - enqueue(E e): Adds element e to the rear, throwing if full (producer only)
+    - fill(Supplier<? extends E> s, int n): Adds up to n supplied elements (producer only)
+    - dequeue(): Removes and returns the front element (consumer only)
+    - drain(Consumer<? super E> c, int maxBatch): Removes up to maxBatch elements (consumer only)
+
+ */
+
+
+// Cold fields shared read-only by both threads
+abstract class SpscArrayQueueColdFields<E> {
+    protected final E[] data;                   // Generic array used for storage
+    protected final int mask;                   // data.length - 1, used to wrap counters
+
+    SpscArrayQueueColdFields(int length) {
+        data = (E[]) new Object[length];        // Safe cast; compiler may give warning
+        mask = length - 1;
+    }
+}
+
+// Padding so the producer fields do not share a cache line with the cold fields
+abstract class SpscArrayQueuePadA<E> extends SpscArrayQueueColdFields<E> {
+    long pa0, pa1, pa2, pa3, pa4, pa5, pa6, pa7;
+    SpscArrayQueuePadA(int length) { super(length); }
+}
+
+// Fields written only by the producer thread
+abstract class SpscArrayQueueProducerFields<E> extends SpscArrayQueuePadA<E> {
+    protected long tail;                        // Next position to enqueue (published with release)
+    protected long cachedHead;                  // Producer's last view of head
+    SpscArrayQueueProducerFields(int length) { super(length); }
+}
+
+// Padding so the producer and consumer fields never share a cache line
+abstract class SpscArrayQueuePadB<E> extends SpscArrayQueueProducerFields<E> {
+    long pb0, pb1, pb2, pb3, pb4, pb5, pb6, pb7;
+    SpscArrayQueuePadB(int length) { super(length); }
+}
+
+// Fields written only by the consumer thread
+abstract class SpscArrayQueueConsumerFields<E> extends SpscArrayQueuePadB<E> {
+    protected long head;                        // Next position to dequeue (published with release)
+    protected long cachedTail;                  // Consumer's last view of tail
+    SpscArrayQueueConsumerFields(int length) { super(length); }
+}
+
+// Padding so the consumer fields do not share a cache line with whatever follows the object
+abstract class SpscArrayQueuePadC<E> extends SpscArrayQueueConsumerFields<E> {
+    long pc0, pc1, pc2, pc3, pc4, pc5, pc6, pc7;
+    SpscArrayQueuePadC(int length) { super(length); }
+}
+
+
+public class SpscArrayQueue<E> extends SpscArrayQueuePadC<E> implements QueueInterface<E> {
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 1024;    // Default capacity
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscArrayQueueConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscArrayQueueProducerFields.class, "tail", long.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+
+    // CONSTRUCTORS
+
+    // Constructs queue with default capacity
+    public SpscArrayQueue() {
+        this(CAPACITY);
+    }
+
+    // Constructs queue with given capacity (rounded up to a power of two)
+    public SpscArrayQueue(int capacity) {
+        super(checkedLength(capacity));
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        long h = (long) HEAD.getAcquire(this);
+        long t = (long) TAIL.getAcquire(this);
+        return (int) Math.max(0, Math.min(t - h, data.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Returns the maximum number of elements the queue can hold
+    public int capacity() {
+        return data.length;
+    }
+
+    // Returns (but does not remove) the front element; consumer thread only
+    @Override
+    public E first() {
+        long h = head;
+        if (h >= cachedTail && h >= (cachedTail = (long) TAIL.getAcquire(this))) {
+            return null;
+        }
+        return data[(int) h & mask];
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Adds element e to the rear, returning false (instead of throwing) if full; producer thread only
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+        long t = tail;
+        if (t - cachedHead >= data.length                               // Looks full:
+                && t - (cachedHead = (long) HEAD.getAcquire(this)) >= data.length) {  // re-read head
+            return false;
+        }
+        data[(int) t & mask] = e;
+        TAIL.setRelease(this, t + 1);           // Publish the element to the consumer
+        return true;
+    }
+
+    // Adds element e to the rear of the queue; producer thread only
+    @Override
+    public void enqueue(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    // Adds up to n elements taken from the supplier with a single publication, and returns
+    // how many were added (fewer than n if the queue fills up); producer thread only
+    public int fill(Supplier<? extends E> supplier, int n) {
+        long t = tail;
+        long free = data.length - (t - cachedHead);
+        if (free < n) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            free = data.length - (t - cachedHead);
+        }
+        int batch = (int) Math.min(n, free);
+        int added = 0;
+        try {
+            for (; added < batch; added++) {
+                E e = supplier.get();
+                if (e == null) {
+                    throw new IllegalArgumentException("Null elements are not supported");
+                }
+                data[(int) (t + added) & mask] = e;
+            }
+        }
+        finally {
+            TAIL.setRelease(this, t + added);   // One publication for the whole batch
+        }
+        return added;
+    }
+
+    // Removes and returns the front element of the queue (null if empty); consumer thread only
+    @Override
+    public E dequeue() {
+        long h = head;
+        if (h >= cachedTail && h >= (cachedTail = (long) TAIL.getAcquire(this))) {
+            return null;
+        }
+        int index = (int) h & mask;
+        E answer = data[index];
+        data[index] = null;                     // Help garbage collection
+        HEAD.setRelease(this, h + 1);           // Hand the slot back to the producer
+        return answer;
+    }
+
+    // Removes up to maxBatch elements, passing each to the consumer in FIFO order with a single
+    // publication, and returns how many were removed; consumer thread only
+    public int drain(Consumer<? super E> consumer, int maxBatch) {
+        long h = head;
+        long available = cachedTail - h;
+        if (available < maxBatch) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            available = cachedTail - h;
+        }
+        int batch = (int) Math.min(maxBatch, available);
+        int removed = 0;
+        try {
+            while (removed < batch) {
+                int index = (int) (h + removed) & mask;
+                E e = data[index];
+                data[index] = null;             // Help garbage collection
+                removed++;                      // Counted before accept, so a throwing
+                consumer.accept(e);             // consumer never sees the element twice
+            }
+        }
+        finally {
+            HEAD.setRelease(this, h + removed); // One publication for the whole batch
+        }
+        return removed;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Validates the requested capacity and returns the power-of-two array length
+    private static int checkedLength(int capacity) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        return ArrayQueue.ceilingPowerOfTwo(capacity);
+    }
+}
@@ -0,0 +1,206 @@
+package org.dsahub;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+/*
+    WORK-STEALING DEQUE (CHASE-LEV)
+    ------------------------------------------------------------------------------------
+    Description:
+    - A lock-free deque with one owner thread and any number of thief threads, the
+      building block of work-stealing schedulers (ForkJoinPool, Cilk, Go, Tokio).
+        * The owner pushes and pops at the back (addLast / removeLast), like a stack.
+          Newest tasks are hot in its cache and small subtasks get run first.
+        * Thieves take from the front (removeFirst), where the oldest - typically the
+          biggest - tasks are, so one steal moves a lot of work.
+    - The elements live in a circular array indexed by two ever-increasing counters:
+      top (front, advanced by thieves with a CAS) and bottom (back, written only by the
+      owner). The owner only ever races with thieves for the very last element; that
+      race is settled with a CAS on top, so addLast/removeLast are wait-free in all other
+      cases and never take a lock.
+    - The array doubles when the owner finds it full. The old array is left untouched, so
+      a thief still reading it sees valid elements.
+
+    Threading contract:
+    - addLast, removeLast and last may only be called by the owner thread (the thread
+      that created the deque, or the one it is handed to before use).
+    - removeFirst, first, size and isEmpty may be called by any thread.
+    - Only the owner adds, and only at the back, so the class does not implement
+      DequeInterface (which requires addFirst): it exposes exactly the owner/thief API.
+
+    Characteristics:
+    - Time complexity:
+        * addLast: O(1) amortized (wait-free, except for resizing)
+        * removeLast: O(1) (a CAS only when taking the last element)
+        * removeFirst: O(1) (lock-free CAS, retried when another thief wins)
+    - Space complexity: O(n); the array does not shrink
+    - Use cases: Per-worker task queues of a work-stealing executor.
+
+    - Advantages: Owner operations almost never touch shared cache lines.
+    - Disadvantages: Single producer; stolen slots are not cleared (an element stays
+      reachable until its slot is reused), null elements are not allowed.
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - first(): Returns (but does not remove) the front element, i.e. the next one to steal
+    - last(): Owner only - returns (but does not remove) the back element
+    - addLast(E e): Owner only - pushes an element at the back
+    - removeLast(): Owner only - pops the back element (null if empty)
+    - removeFirst(): Steals the front element (null if empty)
+
+ */
+
+
+public class WorkStealingDeque<E> {
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 64;          // Default initial capacity (power of two)
+    private volatile long top = 0;                  // Index of the front element (thieves CAS it)
+    private volatile long bottom = 0;               // Index after the back element (owner only)
+    private volatile Object[] array;                // Circular buffer, length a power of two
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+
+    // CONSTRUCTORS
+
+    public WorkStealingDeque() {
+        this(CAPACITY);
+    }
+
+    public WorkStealingDeque(int capacity) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        array = new Object[ArrayQueue.ceilingPowerOfTwo(capacity)];
+    }
+
+
+    // ACCESS METHODS
+
+    public int size() {
+        long b = bottom;
+        long t = top;
+        return (int) Math.max(0, b - t);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E first() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        Object[] a = array;
+        return (E) a[(int) t & (a.length - 1)];     // Snapshot: may be stolen right after
+    }
+
+    @SuppressWarnings("unchecked")
+    public E last() {
+        long b = bottom;
+        long t = top;
+        if (t >= b) {
+            return null;
+        }
+        Object[] a = array;
+        return (E) a[(int) (b - 1) & (a.length - 1)];
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Owner only: pushes e at the back
+    public void addLast(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+        long b = (long) BOTTOM.getOpaque(this);     // Only the owner writes bottom
+        long t = (long) TOP.getAcquire(this);
+        Object[] a = array;
+        if (b - t > a.length - 1) {
+            a = grow(a, t, b);                      // Full: double the buffer
+        }
+        a[(int) b & (a.length - 1)] = e;
+        BOTTOM.setRelease(this, b + 1);             // Publish the element to thieves
+    }
+
+    // Owner only: pops the back element, or returns null if the deque is empty
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        long b = (long) BOTTOM.getOpaque(this) - 1;
+        Object[] a = array;
+        BOTTOM.setVolatile(this, b);                // Claim the slot before looking at top
+        long t = (long) TOP.getVolatile(this);
+        if (t > b) {
+            BOTTOM.setOpaque(this, b + 1);          // Was empty: restore
+            return null;
+        }
+        int slot = (int) b & (a.length - 1);
+        E answer = (E) a[slot];
+        if (t == b) {                               // Last element: race the thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                answer = null;                      // A thief got it
+            }
+            else {
+                a[slot] = null;                     // Help garbage collection
+            }
+            BOTTOM.setOpaque(this, b + 1);
+        }
+        else {
+            a[slot] = null;                         // No thief can reach slot b while t < b
+        }
+        return answer;
+    }
+
+    // Any thread: steals the front element, or returns null if the deque is empty
+    @SuppressWarnings("unchecked")
+    public E removeFirst() {
+        while (true) {
+            long t = (long) TOP.getVolatile(this);
+            long b = (long) BOTTOM.getVolatile(this);
+            if (t >= b) {
+                return null;                        // Empty
+            }
+            Object[] a = array;
+            E answer = (E) a[(int) t & (a.length - 1)];
+            if (TOP.compareAndSet(this, t, t + 1)) {
+                return answer;                      // Slot is not cleared: the owner may reuse it
+            }
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Owner only: copies elements [t, b) into a buffer twice as large and publishes it
+    private Object[] grow(Object[] old, long t, long b) {
+        if (old.length == ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is full");
+        }
+        Object[] bigger = new Object[old.length << 1];
+        for (long i = t; i < b; i++) {
+            bigger[(int) i & (bigger.length - 1)] = old[(int) i & (old.length - 1)];
+        }
+        array = bigger;                             // Volatile write: published before bottom moves
+        return bigger;
+    }
+}
@@ -0,0 +1,254 @@
+package org.dsahub;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+
+/*
+    WORK-STEALING EXECUTOR
+    ------------------------------------------------------------------------------------
+    Description:
+    - A small fixed-size thread pool that schedules tasks the way ForkJoinPool does,
+      built on the library's own queues:
+        * Every worker owns a WorkStealingDeque. A task submitted from inside a worker
+          (a subtask) is pushed on that worker's own deque and later popped from the
+          same end, so freshly spawned work stays on the core that created it.
+        * Tasks submitted from outside the pool go to a shared LockFreeLinkedQueue.
+        * A worker with an empty deque first checks the shared queue and then tries to
+          steal the oldest task from a randomly chosen other worker.
+    - Idle workers spin briefly, then park. Submitting a task from outside wakes an idle
+      worker; a parked worker also wakes up on its own after IDLE_PARK_NANOS, so a
+      missed wake-up only costs latency, never a lost task.
+    - Shutdown cannot lose a task: an external execute counts itself as pending before
+      it checks the shutdown flag and until its task is enqueued, and workers only exit
+      once the flag is set, nothing is pending and every queue is empty.
+    - A task that throws is reported to the worker's uncaught exception handler; the
+      worker carries on with the next task.
+
+    Characteristics:
+    - Time complexity:
+        * execute: O(1)
+        * Per task scheduling: O(1) expected (owner pop, or a few steal attempts)
+    - Use cases: Recursive divide-and-conquer and other fork/join style workloads.
+
+    - Advantages: Subtasks are handed around without locks; busy workers do not touch
+      each other's queues.
+    - Disadvantages: No join/result support (use counters or latches to wait), fixed
+      number of threads.
+
+    Operation/Methods:
+    - execute(Runnable task): Schedules the task
+    - parallelism(): Number of worker threads
+    - shutdown(): Stops accepting tasks; workers exit once all queued tasks are done
+    - awaitTermination(long timeout, TimeUnit unit): Waits for the workers to exit
+
+ */
+
+
+public class WorkStealingExecutor implements Executor {
+
+    public static final int SPINS_BEFORE_PARK = 64;         // Empty scans before parking
+    public static final long IDLE_PARK_NANOS = 1_000_000;   // Longest nap of an idle worker
+
+
+    //-------------- NESTED WORKER CLASS ---------------
+    private final class Worker extends Thread {
+
+        private final WorkStealingDeque<Runnable> deque = new WorkStealingDeque<>();
+        private volatile boolean parked;
+
+        Worker(int index) {
+            super("work-stealing-worker-" + index);
+            setDaemon(true);
+        }
+
+        WorkStealingExecutor owner() {
+            return WorkStealingExecutor.this;
+        }
+
+        @Override
+        public void run() {
+            int idleScans = 0;
+            while (true) {
+                Runnable task = deque.removeLast();         // Own work first, newest first
+                if (task == null) {
+                    task = findWork(this);
+                }
+                if (task != null) {
+                    idleScans = 0;
+                    runTask(task);
+                }
+                else if (shutdown && pending.get() == 0 && submissions.isEmpty() && !anyWork()) {
+                    return;
+                }
+                else if (++idleScans < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                }
+                else {
+                    parked = true;
+                    idle.incrementAndGet();
+                    if (submissions.isEmpty()) {            // Re-check after announcing
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    idle.decrementAndGet();
+                    parked = false;
+                    idleScans = 0;
+                }
+            }
+        }
+
+        private void runTask(Runnable task) {
+            try {
+                task.run();
+            }
+            catch (Throwable t) {
+                getUncaughtExceptionHandler().uncaughtException(this, t);
+            }
+        }
+    }
+    //---------- END OF NESTED WORKER CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final Worker[] workers;
+    private final LockFreeLinkedQueue<Runnable> submissions = new LockFreeLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();    // Workers about to park or parked
+    private final AtomicInteger pending = new AtomicInteger(); // External executes not yet enqueued
+    private volatile boolean shutdown = false;
+
+
+    // CONSTRUCTORS
+
+    // Constructs an executor with one worker per available processor
+    public WorkStealingExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public WorkStealingExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+
+    // ACCESS METHODS
+
+    public int parallelism() {
+        return workers.length;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    // Schedules the task: on the caller's own deque if it is a worker of this executor,
+    // otherwise on the shared submission queue
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Null tasks are not supported");
+        }
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker && ((Worker) current).owner() == this) {
+            ((Worker) current).deque.addLast(task);
+            if (idle.get() > 0) {
+                wakeOne();                          // Let an idle worker come and steal
+            }
+            return;
+        }
+        pending.incrementAndGet();                  // Before the check: workers wait for it
+        try {
+            if (shutdown) {
+                throw new IllegalStateException("Executor is shut down");
+            }
+            submissions.enqueue(task);
+        }
+        finally {
+            pending.decrementAndGet();              // After the enqueue: a worker will see the task
+        }
+        if (idle.get() > 0) {
+            wakeOne();
+        }
+    }
+
+    // Stops accepting external tasks; workers exit once all queued work is done
+    public void shutdown() {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    // Waits until every worker has exited; returns false if the timeout expired first
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Worker worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Next task for a worker whose own deque is empty: a submission, else a stolen task
+    private Runnable findWork(Worker self) {
+        Runnable task = submissions.dequeue();
+        if (task != null) {
+            return task;
+        }
+        int n = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = 0; i < n; i++) {
+            Worker victim = workers[(start + i) % n];
+            if (victim != self) {
+                task = victim.deque.removeFirst();  // Oldest task of the victim
+                if (task != null) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    // True if any worker's deque still holds tasks
+    private boolean anyWork() {
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Unparks one parked worker, if there is one
+    private void wakeOne() {
+        for (Worker worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     ARRAY DEQUE
@@ -7,41 +13,84 @@ package org.dsahub;
     Description:
     - A double-ended queue (deque) implementation using a generic array for storage.
     - Supports adding and removing elements from both the front and the back.
+    - The storage array always has a power-of-two length, so wrapping an index around
+      either end of the array is a bitmask (index & mask) instead of a modulo.
+    - Two modes:
+        * Fixed (default): Holds at most the requested capacity and throws when full.
+        * Growable: Doubles the array when full, and optionally halves it again when
+          occupancy drops to a quarter, so bursts do not need pre-sizing.
+    - Iterable from first to last: a fail-fast iterator, a forEach that walks the (at
+      most two) runs of the ring directly, and a spliterator that splits the index range
+      exactly (SIZED | SUBSIZED) for parallel streams.
 
     Characteristics:
     - Time complexity:
-        * Access: O(n)
+        * Access: O(1) at either end
         * Search: O(n)
-        * Insertion: O(1) for head, O(n) for tail (unless tail pointer is used)
-        * Deletion: O(1) for head, O(n) for tail or specific node
+        * Insertion: O(1) at either end (amortized O(1) in growable mode)
+        * Deletion: O(1) at either end (amortized O(1) when shrinking is enabled)
      - Space complexity: O(n)
-     - Use cases: When dynamic size and frequent insertions/deletions at both ends are needed.
+     - Use cases: When frequent insertions/deletions at both ends are needed.
 
-     - Advantages: Dynamic size, efficient insertions/deletions at both ends.
-     - Disadvantages: O(n) access/search time, higher memory overhead compared to arrays.
+     - Advantages: Efficient insertions/deletions at both ends, no per-element nodes.
+     - Disadvantages: Limited capacity in fixed mode, resizing copies every element.
 
      Operation/Methods:
      - size()
      - isEmpty()
+     - capacity(): Returns the number of elements the deque can hold before it is full or grows
      - first(): Returns (but does not remove) the first element
      - last(): Returns (but does not remove) the last element
      - addFirst(E e): Adds element e to the front of the deque
      - addLast(E e): Adds element e to the end of the deque
      - removeFirst(): Removes and returns the first element of the deque
      - removeLast(): Removes and returns the last element of the deque
+     - iterator(): Returns a fail-fast iterator of the elements, from first to last
+     - forEach(Consumer<? super E> action): Performs the action on every element, first to last
+     - spliterator(): Returns a splittable, fail-fast spliterator of the elements
 
  */
 
 
-public class ArrayDeque<E> implements DequeInterface<E> {
+public class ArrayDeque<E> implements DequeInterface<E>, Iterable<E> {
+
+    //-------------- NESTED RING ITERATOR CLASS ---------------
+    private class RingIterator implements Iterator<E> {
+
+        private int j = 0;                      // Position (from the front) of the next element
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size) {
+                throw new NoSuchElementException("No next element");
+            }
+            return data[(f + j++) & mask];
+        }
+    }
+    //---------- END OF NESTED RING ITERATOR CLASS ------------
+
 
 
     // INSTANCE VARIABLES
 
     public static final int CAPACITY = 1000;    // Default array capacity
+    public static final int MAX_CAPACITY = 1 << 30; // Largest power-of-two array length
     private E[] data;                           // Generic array used for storage
+    private int mask;                           // data.length - 1, used to wrap indices
+    private int capacity;                       // Maximum number of elements before full/grow
+    private final int minLength;                // Array length never shrinks below this
+    private final boolean growable;             // Whether a full deque grows instead of throwing
+    private final boolean shrinkable;           // Whether a sparse deque releases memory
     private int f = 0;                          // Index of the front element
     private int size = 0;                       // Current number of elements
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
 
 
     // CONSTRUCTORS
@@ -51,9 +100,35 @@ public class ArrayDeque<E> implements DequeInterface<E> {
         this(CAPACITY);
     }
 
-    // Constructs deque with given capacity
+    // Constructs fixed-capacity deque with given capacity
     public ArrayDeque(int capacity) {
-        data = (E[]) new Object[capacity];     // Safe cast; compiler may give warning
+        this(capacity, false, false);
+    }
+
+    // Constructs deque with given (initial) capacity, growing when full if growable is true
+    public ArrayDeque(int capacity, boolean growable) {
+        this(capacity, growable, false);
+    }
+
+    // Constructs deque with given (initial) capacity, growing when full if growable is true
+    // and shrinking back towards the initial capacity when sparse if shrinkable is true
+    public ArrayDeque(int capacity, boolean growable, boolean shrinkable) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY);
+        }
+        if (growable && capacity < 1) {
+            throw new IllegalArgumentException("Capacity of a growable deque must be positive");
+        }
+        if (shrinkable && !growable) {
+            throw new IllegalArgumentException("Only a growable deque can shrink");
+        }
+        int length = ArrayQueue.ceilingPowerOfTwo(capacity);
+        data = (E[]) new Object[length];        // Safe cast; compiler may give warning
+        mask = length - 1;
+        this.capacity = growable ? length : capacity;   // Fixed capacity 0: always full
+        this.minLength = length;
+        this.growable = growable;
+        this.shrinkable = shrinkable;
     }
 
 
@@ -69,6 +144,11 @@ public class ArrayDeque<E> implements DequeInterface<E> {
         return size == 0;
     }
 
+    // Returns the number of elements the deque can hold before it is full (or grows)
+    public int capacity() {
+        return capacity;
+    }
+
     @Override
     public E first() {
         if (isEmpty()) {
@@ -82,26 +162,54 @@ public class ArrayDeque<E> implements DequeInterface<E> {
         if (isEmpty()) {
             return null;
         }
-        return data[(f + size - 1) % data.length];
+        return data[(f + size - 1) & mask];
     }
 
     @Override
-    public void addFirst(E e) {
-        if (size == data.length) {
-            throw new IllegalStateException("Deque is full");
+    public Iterator<E> iterator() {
+        return new RingIterator();
+    }
+
+    // Performs the action on every element from first to last: the run from the front
+    // to the end of the array, then the wrapped-around run from index 0
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        int firstPart = Math.min(size, data.length - f);
+        for (int i = f; i < f + firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = 0; i < size - firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
         }
-        f = (f - 1 + data.length) % data.length;
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[(f + i) & mask], () -> size, () -> modCount);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void addFirst(E e) {
+        ensureRoom();
+        f = (f - 1) & mask;
         data[f] = e;
+        size++;
+        modCount++;
     }
 
     @Override
     public void addLast(E e) {
-        if (size == data.length) {
-            throw new IllegalStateException("Deque is full");
-        }
-        int avail = (f + size) % data.length;
+        ensureRoom();
+        int avail = (f + size) & mask;
         data[avail] = e;
         size++;
+        modCount++;
     }
 
     @Override
@@ -111,8 +219,10 @@ public class ArrayDeque<E> implements DequeInterface<E> {
         }
         E answer = data[f];
         data[f] = null;
-        f = (f + 1) % data.length;
+        f = (f + 1) & mask;
         size--;
+        modCount++;
+        shrinkIfSparse();
         return answer;
     }
 
@@ -121,10 +231,51 @@ public class ArrayDeque<E> implements DequeInterface<E> {
         if (isEmpty()) {
             return null;
         }
-        int index = (f + size - 1) % data.length;
+        int index = (f + size - 1) & mask;
         E answer = data[index];
         data[index] = null;
         size--;
+        modCount++;
+        shrinkIfSparse();
         return answer;
     }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the deque was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Makes room for one more element, growing the array or throwing if the deque is full
+    private void ensureRoom() {
+        if (size == capacity) {
+            if (!growable || data.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Deque is full");
+            }
+            resize(data.length << 1);
+        }
+    }
+
+    // Halves the array once occupancy drops to a quarter (hysteresis avoids resize thrashing)
+    private void shrinkIfSparse() {
+        if (shrinkable && size <= (data.length >>> 2) && data.length > minLength) {
+            resize(data.length >>> 1);
+        }
+    }
+
+    // Moves the elements, in deque order, to a new array of the given power-of-two length
+    private void resize(int length) {
+        E[] temp = (E[]) new Object[length];    // Safe cast; compiler may give warning
+        int firstPart = Math.min(size, data.length - f);
+        System.arraycopy(data, f, temp, 0, firstPart);                  // From front to array end
+        System.arraycopy(data, 0, temp, firstPart, size - firstPart);   // Wrapped-around remainder
+        data = temp;
+        mask = length - 1;
+        capacity = length;
+        f = 0;
+    }
 }
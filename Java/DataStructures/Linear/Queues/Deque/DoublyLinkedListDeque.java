@@ -1,5 +1,9 @@
 package org.dsahub;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     DOUBLY LINKED LIST DEQUE
@@ -28,11 +32,13 @@ package org.dsahub;
      - addLast(E e): Adds element e to the end of the deque
      - removeFirst(): Removes and returns the first element of the deque
      - removeLast(): Removes and returns the last element of the deque
+     - iterator(): Returns a fail-fast iterator of the elements, from first to last
+     - forEach(Consumer<? super E> action): Performs the action on every element, first to last
 
  */
 
 
-public class DoublyLinkedListDeque<E> implements DequeInterface<E> {
+public class DoublyLinkedListDeque<E> implements DequeInterface<E>, Iterable<E> {
 
 
     // INSTANCE VARIABLES
@@ -67,6 +73,21 @@ public class DoublyLinkedListDeque<E> implements DequeInterface<E> {
         return list.last();
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
 
     // PUBLIC UPDATE METHODS
 
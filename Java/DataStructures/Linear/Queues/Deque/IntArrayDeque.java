@@ -0,0 +1,173 @@
+package org.dsahub;
+
+
+/*
+    INT ARRAY DEQUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - ArrayDeque specialized for primitive int elements, stored directly in an int[].
+    - Same power-of-two ring as ArrayDeque (index & mask), in fixed or growable mode.
+    - No element is ever boxed, so adds/removes allocate nothing once the array has
+      reached its working size.
+
+    Characteristics:
+    - Time complexity:
+        * Access: O(1) at either end
+        * Search: O(n)
+        * Insertion: O(1) at either end (amortized O(1) in growable mode)
+        * Deletion: O(1) at either end
+     - Space complexity: O(n), 4 bytes per slot (vs a reference plus a 16-byte Integer)
+     - Use cases: Work lists, BFS frontiers and sliding windows over int values.
+
+     - Advantages: No boxing, no allocation per operation, compact storage.
+     - Disadvantages: int elements only, resizing copies every element.
+
+     Operation/Methods:
+     - size()
+     - isEmpty()
+     - capacity(): Returns the number of elements the deque can hold before it is full or grows
+     - firstInt(): Returns (but does not remove) the first element
+     - lastInt(): Returns (but does not remove) the last element
+     - addFirst(int e): Adds element e to the front of the deque
+     - addLast(int e): Adds element e to the end of the deque
+     - removeFirstInt(): Removes and returns the first element of the deque
+     - removeLastInt(): Removes and returns the last element of the deque
+
+ */
+
+
+public class IntArrayDeque implements IntDequeInterface {
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 1000;    // Default array capacity
+    private int[] data;                         // Primitive array used for storage
+    private int mask;                           // data.length - 1, used to wrap indices
+    private int capacity;                       // Maximum number of elements before full/grow
+    private final boolean growable;             // Whether a full deque grows instead of throwing
+    private int f = 0;                          // Index of the front element
+    private int size = 0;                       // Current number of elements
+
+
+    // CONSTRUCTORS
+
+    // Constructs deque with default capacity
+    public IntArrayDeque() {
+        this(CAPACITY);
+    }
+
+    // Constructs fixed-capacity deque with given capacity
+    public IntArrayDeque(int capacity) {
+        this(capacity, false);
+    }
+
+    // Constructs deque with given (initial) capacity, growing when full if growable is true
+    public IntArrayDeque(int capacity, boolean growable) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        int length = ArrayQueue.ceilingPowerOfTwo(capacity);
+        data = new int[length];
+        mask = length - 1;
+        this.capacity = growable ? length : capacity;
+        this.growable = growable;
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Returns the number of elements the deque can hold before it is full (or grows)
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int firstInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Deque is empty");
+        }
+        return data[f];
+    }
+
+    @Override
+    public int lastInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Deque is empty");
+        }
+        return data[(f + size - 1) & mask];
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void addFirst(int e) {
+        ensureRoom();
+        f = (f - 1) & mask;
+        data[f] = e;
+        size++;
+    }
+
+    @Override
+    public void addLast(int e) {
+        ensureRoom();
+        data[(f + size) & mask] = e;
+        size++;
+    }
+
+    @Override
+    public int removeFirstInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Deque is empty");
+        }
+        int answer = data[f];
+        f = (f + 1) & mask;
+        size--;
+        return answer;
+    }
+
+    @Override
+    public int removeLastInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Deque is empty");
+        }
+        size--;
+        return data[(f + size) & mask];
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Makes room for one more element, growing the array or throwing if the deque is full
+    private void ensureRoom() {
+        if (size == capacity) {
+            if (!growable || data.length == ArrayQueue.MAX_CAPACITY) {
+                throw new IllegalStateException("Deque is full");
+            }
+            resize(data.length << 1);
+        }
+    }
+
+    // Moves the elements, in deque order, to a new array of the given power-of-two length
+    private void resize(int length) {
+        int[] temp = new int[length];
+        int firstPart = Math.min(size, data.length - f);
+        System.arraycopy(data, f, temp, 0, firstPart);                  // From front to array end
+        System.arraycopy(data, 0, temp, firstPart, size - firstPart);   // Wrapped-around remainder
+        data = temp;
+        mask = length - 1;
+        capacity = length;
+        f = 0;
+    }
+}
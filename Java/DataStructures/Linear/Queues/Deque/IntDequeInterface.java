@@ -0,0 +1,51 @@
+package org.dsahub;
+
+
+/*
+    INT DEQUE INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - The DequeInterface specialized for primitive int elements, so elements are never
+      boxed into Integer objects.
+    - An empty deque cannot return null here, so the access/removal methods throw instead.
+
+    Operation/Methods:
+    - size(): Returns the number of elements in the deque
+    - isEmpty(): Tests whether the deque is empty
+    - firstInt(): Returns (but does not remove) the first element of the deque
+    - lastInt(): Returns (but does not remove) the last element of the deque
+    - addFirst(int e): Inserts an element at the front of the deque
+    - addLast(int e): Inserts an element at the back of the deque
+    - removeFirstInt(): Removes and returns the first element of the deque
+    - removeLastInt(): Removes and returns the last element of the deque
+
+ */
+
+
+public interface IntDequeInterface {
+
+    // Returns the number of elements in the deque
+    int size();
+
+    // Tests whether the deque is empty
+    boolean isEmpty();
+
+    // Returns (but does not remove) the first element of the deque (throws if empty)
+    int firstInt() throws IllegalStateException;
+
+    // Returns (but does not remove) the last element of the deque (throws if empty)
+    int lastInt() throws IllegalStateException;
+
+    // Inserts an element at the front of the deque
+    void addFirst(int e);
+
+    // Inserts an element at the back of the deque
+    void addLast(int e);
+
+    // Removes and returns the first element of the deque (throws if empty)
+    int removeFirstInt() throws IllegalStateException;
+
+    // Removes and returns the last element of the deque (throws if empty)
+    int removeLastInt() throws IllegalStateException;
+
+}
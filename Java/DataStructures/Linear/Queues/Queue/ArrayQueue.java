@@ -1,5 +1,11 @@
 package org.dsahub;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     ARRAY QUEUE
@@ -7,37 +13,80 @@ package org.dsahub;
     Description:
     - A linear data structure that follows the First In, First Out (FIFO) principle.
     - Elements are enqueued at the rear and dequeued from the front.
+    - The storage array always has a power-of-two length, so wrapping an index around
+      the end of the array is a bitmask (index & mask) instead of a modulo.
+    - Two modes:
+        * Fixed (default): Holds at most the requested capacity and throws when full.
+        * Growable: Doubles the array when full, and optionally halves it again when
+          occupancy drops to a quarter, so bursts do not need pre-sizing.
+    - Iterable from front to rear: a fail-fast iterator, a forEach that walks the (at
+      most two) runs of the ring directly, and a spliterator that splits the index range
+      exactly (SIZED | SUBSIZED) for parallel streams.
 
     Characteristics:
     - Time complexity:
-        * Enqueue: O(1)
-        * Dequeue: O(1)
+        * Enqueue: O(1) (amortized O(1) in growable mode)
+        * Dequeue: O(1) (amortized O(1) when shrinking is enabled)
         * Access: O(1)
         * Search: O(n)
      - Space complexity: O(n)
      - Use cases: When elements need to be processed in a specific order, such as task scheduling.
 
      - Advantages: Constant time enqueue and dequeue operations.
-     - Disadvantages: Limited capacity, dynamic resizing can be costly.
+     - Disadvantages: Limited capacity in fixed mode, resizing copies every element.
 
      Operation/Methods:
      - size()
      - isEmpty()
+     - capacity(): Returns the number of elements the queue can hold before it is full or grows
      - first(): Returns (but does not remove) the front element
      - enqueue(E e): Adds element e to the rear of the queue
      - dequeue(): Removes and returns the front element of the queue
+     - iterator(): Returns a fail-fast iterator of the elements, from front to rear
+     - forEach(Consumer<? super E> action): Performs the action on every element, front to rear
+     - spliterator(): Returns a splittable, fail-fast spliterator of the elements
 
  */
 
 
-public class ArrayQueue<E> implements QueueInterface<E> {
+public class ArrayQueue<E> implements QueueInterface<E>, Iterable<E> {
+
+    //-------------- NESTED RING ITERATOR CLASS ---------------
+    private class RingIterator implements Iterator<E> {
+
+        private int j = 0;                      // Position (from the front) of the next element
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j >= size) {
+                throw new NoSuchElementException("No next element");
+            }
+            return data[(f + j++) & mask];
+        }
+    }
+    //---------- END OF NESTED RING ITERATOR CLASS ------------
+
 
     // INSTANCE VARIABLES
 
     public static final int CAPACITY = 1000;    // Default array capacity
+    public static final int MAX_CAPACITY = 1 << 30; // Largest power-of-two array length
     private E[] data;                           // Generic array used for storage
+    private int mask;                           // data.length - 1, used to wrap indices
+    private int capacity;                       // Maximum number of elements before full/grow
+    private final int minLength;                // Array length never shrinks below this
+    private final boolean growable;             // Whether a full queue grows instead of throwing
+    private final boolean shrinkable;           // Whether a sparse queue releases memory
     private int f = 0;                          // Index of the front element
     private int size = 0;                       // Current number of elements
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
 
 
     // CONSTRUCTORS
@@ -47,9 +96,35 @@ public class ArrayQueue<E> implements QueueInterface<E> {
         this(CAPACITY);
     }
 
-    // Constructs queue with given capacity
+    // Constructs fixed-capacity queue with given capacity
     public ArrayQueue(int capacity) {
-        data = (E[]) new Object[capacity];      // Safe cast; compiler may give warning
+        this(capacity, false, false);
+    }
+
+    // Constructs queue with given (initial) capacity, growing when full if growable is true
+    public ArrayQueue(int capacity, boolean growable) {
+        this(capacity, growable, false);
+    }
+
+    // Constructs queue with given (initial) capacity, growing when full if growable is true
+    // and shrinking back towards the initial capacity when sparse if shrinkable is true
+    public ArrayQueue(int capacity, boolean growable, boolean shrinkable) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY);
+        }
+        if (growable && capacity < 1) {
+            throw new IllegalArgumentException("Capacity of a growable queue must be positive");
+        }
+        if (shrinkable && !growable) {
+            throw new IllegalArgumentException("Only a growable queue can shrink");
+        }
+        int length = ceilingPowerOfTwo(capacity);
+        data = (E[]) new Object[length];        // Safe cast; compiler may give warning
+        mask = length - 1;
+        this.capacity = growable ? length : capacity;   // Fixed capacity 0: always full
+        this.minLength = length;
+        this.growable = growable;
+        this.shrinkable = shrinkable;
     }
 
 
@@ -65,6 +140,11 @@ public class ArrayQueue<E> implements QueueInterface<E> {
         return size == 0;
     }
 
+    // Returns the number of elements the queue can hold before it is full (or grows)
+    public int capacity() {
+        return capacity;
+    }
+
     @Override
     public E first() {
         if (isEmpty()) {
@@ -73,18 +153,48 @@ public class ArrayQueue<E> implements QueueInterface<E> {
         return data[f];
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return new RingIterator();
+    }
+
+    // Performs the action on every element from front to rear: the run from the front
+    // to the end of the array, then the wrapped-around run from index 0
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        int firstPart = Math.min(size, data.length - f);
+        for (int i = f; i < f + firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = 0; i < size - firstPart && modCount == expectedModCount; i++) {
+            action.accept(data[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[(f + i) & mask], () -> size, () -> modCount);
+    }
+
 
     //
     // PUBLIC UPDATE METHODS
 
     @Override
     public void enqueue(E e) {
-        if (size == data.length) {
-            throw new IllegalStateException("Queue is full");
+        if (size == capacity) {
+            if (!growable || data.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Queue is full");
+            }
+            resize(data.length << 1);
         }
-        int avail = (f + size) % data.length;
+        int avail = (f + size) & mask;
         data[avail] = e;
         size++;
+        modCount++;
     }
 
     @Override
@@ -94,9 +204,40 @@ public class ArrayQueue<E> implements QueueInterface<E> {
         }
         E answer = data[f];
         data[f] = null;
-        f = (f + 1) % data.length;
+        f = (f + 1) & mask;
         size--;
+        modCount++;
+        if (shrinkable && size <= (data.length >>> 2) && data.length > minLength) {
+            resize(data.length >>> 1);          // Halve only at quarter occupancy (hysteresis)
+        }
         return answer;
     }
 
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the queue was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Moves the elements, in queue order, to a new array of the given power-of-two length
+    private void resize(int length) {
+        E[] temp = (E[]) new Object[length];    // Safe cast; compiler may give warning
+        int firstPart = Math.min(size, data.length - f);
+        System.arraycopy(data, f, temp, 0, firstPart);                  // From front to array end
+        System.arraycopy(data, 0, temp, firstPart, size - firstPart);   // Wrapped-around remainder
+        data = temp;
+        mask = length - 1;
+        capacity = length;
+        f = 0;
+    }
+
+    // Returns the smallest power of two >= n, and 1 for n = 0 (for 0 <= n <= MAX_CAPACITY)
+    static int ceilingPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
 }
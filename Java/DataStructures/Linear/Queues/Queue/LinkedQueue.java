@@ -1,5 +1,9 @@
 package org.dsahub;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     LINKED QUEUE
@@ -26,11 +30,13 @@ package org.dsahub;
      - first(): Returns (but does not remove) the front element
      - enqueue(E e): Adds element e to the rear of the queue
      - dequeue(): Removes and returns the front element of the queue
+     - iterator(): Returns a fail-fast iterator of the elements, from front to rear
+     - forEach(Consumer<? super E> action): Performs the action on every element, front to rear
 
  */
 
 
-public class LinkedQueue<E> implements QueueInterface<E> {
+public class LinkedQueue<E> implements QueueInterface<E>, Iterable<E> {
 
 
     // INSTANCE VARIABLES
@@ -62,6 +68,21 @@ public class LinkedQueue<E> implements QueueInterface<E> {
         return list.first();
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
 
     // PUBLIC UPDATE METHODS
 
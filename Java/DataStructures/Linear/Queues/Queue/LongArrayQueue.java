@@ -0,0 +1,140 @@
+package org.dsahub;
+
+
+/*
+    LONG ARRAY QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - ArrayQueue specialized for primitive long elements, stored directly in a long[].
+    - Same power-of-two ring as ArrayQueue (index & mask), in fixed or growable mode.
+    - No element is ever boxed, so enqueue/dequeue allocate nothing once the array has
+      reached its working size.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) (amortized O(1) in growable mode)
+        * Dequeue: O(1)
+        * Access: O(1)
+        * Search: O(n)
+     - Space complexity: O(n), 8 bytes per slot (vs a reference plus a 16-byte Long)
+     - Use cases: Queues of timestamps, ids or other long values on hot paths.
+
+     - Advantages: No boxing, no allocation per operation, compact storage.
+     - Disadvantages: long elements only, resizing copies every element.
+
+     Operation/Methods:
+     - size()
+     - isEmpty()
+     - capacity(): Returns the number of elements the queue can hold before it is full or grows
+     - firstLong(): Returns (but does not remove) the front element
+     - enqueue(long e): Adds element e to the rear of the queue
+     - dequeueLong(): Removes and returns the front element of the queue
+
+ */
+
+
+public class LongArrayQueue implements LongQueueInterface {
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 1000;    // Default array capacity
+    private long[] data;                        // Primitive array used for storage
+    private int mask;                           // data.length - 1, used to wrap indices
+    private int capacity;                       // Maximum number of elements before full/grow
+    private final boolean growable;             // Whether a full queue grows instead of throwing
+    private int f = 0;                          // Index of the front element
+    private int size = 0;                       // Current number of elements
+
+
+    // CONSTRUCTORS
+
+    // Constructs queue with default capacity
+    public LongArrayQueue() {
+        this(CAPACITY);
+    }
+
+    // Constructs fixed-capacity queue with given capacity
+    public LongArrayQueue(int capacity) {
+        this(capacity, false);
+    }
+
+    // Constructs queue with given (initial) capacity, growing when full if growable is true
+    public LongArrayQueue(int capacity, boolean growable) {
+        if (capacity < 1 || capacity > ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ArrayQueue.MAX_CAPACITY);
+        }
+        int length = ArrayQueue.ceilingPowerOfTwo(capacity);
+        data = new long[length];
+        mask = length - 1;
+        this.capacity = growable ? length : capacity;
+        this.growable = growable;
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Returns the number of elements the queue can hold before it is full (or grows)
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public long firstLong() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return data[f];
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(long e) {
+        if (size == capacity) {
+            if (!growable || data.length == ArrayQueue.MAX_CAPACITY) {
+                throw new IllegalStateException("Queue is full");
+            }
+            resize(data.length << 1);
+        }
+        data[(f + size) & mask] = e;
+        size++;
+    }
+
+    @Override
+    public long dequeueLong() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        long answer = data[f];
+        f = (f + 1) & mask;
+        size--;
+        return answer;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Moves the elements, in queue order, to a new array of the given power-of-two length
+    private void resize(int length) {
+        long[] temp = new long[length];
+        int firstPart = Math.min(size, data.length - f);
+        System.arraycopy(data, f, temp, 0, firstPart);                  // From front to array end
+        System.arraycopy(data, 0, temp, firstPart, size - firstPart);   // Wrapped-around remainder
+        data = temp;
+        mask = length - 1;
+        capacity = length;
+        f = 0;
+    }
+
+}
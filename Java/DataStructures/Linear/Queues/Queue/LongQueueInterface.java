@@ -0,0 +1,37 @@
+package org.dsahub;
+
+/*
+    LONG QUEUE INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - The QueueInterface specialized for primitive long elements, so elements are never
+      boxed into Long objects.
+    - An empty queue cannot return null here, so firstLong/dequeueLong throw instead.
+
+    Methods:
+    - size(): Returns the number of elements in the queue.
+    - isEmpty(): Tests whether the queue is empty.
+    - enqueue(long e): Inserts an element at the rear of the queue.
+    - firstLong(): Returns (does not remove) the first element of the queue.
+    - dequeueLong(): Removes and returns the first element of the queue.
+*/
+
+
+public interface LongQueueInterface {
+
+    // Returns the number of elements in the queue
+    int size();
+
+    // Tests whether the queue is empty
+    boolean isEmpty();
+
+    // Returns (does not remove) the first element of the queue (throws if empty)
+    long firstLong() throws IllegalStateException;
+
+    // Inserts an element at the rear of the queue
+    void enqueue(long e);
+
+    // Removes and returns the first element of the queue (throws if empty)
+    long dequeueLong() throws IllegalStateException;
+
+}
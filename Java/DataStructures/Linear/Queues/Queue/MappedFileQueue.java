@@ -0,0 +1,298 @@
+package org.dsahub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+
+/*
+    MAPPED FILE QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A persistent FIFO queue whose elements live off-heap, in memory-mapped segment
+      files inside a directory, instead of in Java objects.
+    - Elements are serialized by a Codec and appended to the current write segment as
+      records: [int header][payload bytes], where header = payload length + 1 (a header
+      of 0 marks space that was never written). When a record does not fit, the segment
+      is closed with an end marker (-1) and the queue rolls over to a new segment file.
+    - The read cursor (segment number and offset) is stored in its own small mapped file
+      and updated on every dequeue, so a restarted queue resumes where it stopped.
+    - Once the reader moves past a segment, that segment's file is deleted.
+    - On startup the queue rescans the records after the read cursor to recover the
+      write position and size, so the cursor file is the only extra state on disk.
+    - Only the current read and write segments are mapped, so the heap footprint stays
+      the same however large the backlog grows.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1) plus serialization
+        * Dequeue: O(1) plus deserialization
+        * Access: O(1)
+        * Search: O(n)
+        * Open: O(backlog) (rescans the unread records)
+     - Space complexity: O(1) heap, O(n) disk
+     - Use cases: Buffering large backlogs of events across restarts and crashes.
+
+     - Advantages: Survives process crashes, constant heap usage, no GC pressure from
+       queued elements.
+     - Disadvantages: Serialization cost on every operation, elements must fit in one
+       segment, single-threaded, durability across OS crashes requires flush().
+
+     Operation/Methods:
+     - size()
+     - isEmpty()
+     - first(): Returns (but does not remove) the front element
+     - enqueue(E e): Adds element e to the rear of the queue
+     - dequeue(): Removes and returns the front element of the queue
+     - flush(): Forces written data and the read cursor to the storage device
+     - close(): Flushes and releases the mapped segments
+
+ */
+
+
+public class MappedFileQueue<E> implements QueueInterface<E>, AutoCloseable {
+
+
+    //-------------- NESTED CODEC INTERFACE ---------------
+    // Converts elements to and from the bytes stored in the segment files
+    public interface Codec<E> {
+
+        // Serializes element e
+        byte[] encode(E e);
+
+        // Deserializes an element previously produced by encode
+        E decode(byte[] bytes);
+    }
+    //---------- END OF NESTED CODEC INTERFACE ------------
+
+
+    // INSTANCE VARIABLES
+
+    public static final int SEGMENT_SIZE = 64 << 20;    // Default segment file size (64 MiB)
+    private static final int HEADER = 4;                // Bytes in a record header
+    private static final int END_OF_SEGMENT = -1;       // Header marking the end of a segment
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String CURSOR_FILE = "read.cursor";
+
+    private final Path directory;               // Directory holding the segment files
+    private final Codec<E> codec;               // Element serializer
+    private final int segmentSize;              // Size of each segment file in bytes
+    private final MappedByteBuffer cursor;      // Persisted read cursor: [long segment][int offset]
+    private MappedByteBuffer writeBuffer;       // Mapping of the segment being appended to
+    private long writeSegment;                  // Number of the segment being appended to
+    private int writeOffset;                    // Next free byte in the write segment
+    private MappedByteBuffer readBuffer;        // Mapping of the segment being read from
+    private long readSegment;                   // Number of the segment being read from
+    private int readOffset;                     // Header of the next record to read
+    private int size = 0;                       // Current number of elements
+
+
+    // CONSTRUCTORS
+
+    // Opens (or creates) the queue stored in the given directory, with default segment size
+    public MappedFileQueue(Path directory, Codec<E> codec) throws IOException {
+        this(directory, codec, SEGMENT_SIZE);
+    }
+
+    // Opens (or creates) the queue stored in the given directory, with given segment size
+    // (the segment size of an existing queue must not change between runs)
+    public MappedFileQueue(Path directory, Codec<E> codec, int segmentSize) throws IOException {
+        if (segmentSize < 2 * HEADER) {
+            throw new IllegalArgumentException("Segment size must be at least " + 2 * HEADER + " bytes");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+
+        long[] segments = existingSegments();
+        boolean fresh = Files.notExists(directory.resolve(CURSOR_FILE));
+        cursor = map(directory.resolve(CURSOR_FILE), Long.BYTES + Integer.BYTES);
+        if (fresh) {
+            saveCursor(segments.length == 0 ? 0 : segments[0], 0);
+        }
+        readSegment = cursor.getLong(0);
+        readOffset = cursor.getInt(Long.BYTES);
+
+        for (long segment : segments) {         // Consumed before a crash but not yet deleted
+            if (segment < readSegment) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+        readBuffer = map(segmentPath(readSegment), segmentSize);
+        recover(segments.length == 0 ? readSegment : Math.max(readSegment, segments[segments.length - 1]));
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public E first() {
+        if (isEmpty()) {
+            return null;
+        }
+        int length = skipToRecord();
+        return codec.decode(payload(readBuffer, readOffset, length));
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(E e) {
+        byte[] bytes = codec.encode(e);
+        int needed = HEADER + bytes.length;
+        if (needed > segmentSize - HEADER) {    // Must leave room for an end marker
+            throw new IllegalArgumentException("Element needs " + needed + " bytes, segment holds " + segmentSize);
+        }
+        if (segmentSize - writeOffset < needed) {
+            rollOver();
+        }
+        writeBuffer.put(writeOffset + HEADER, bytes);
+        writeBuffer.putInt(writeOffset, bytes.length + 1);  // Header last: the record is complete
+        writeOffset += needed;
+        size++;
+    }
+
+    @Override
+    public E dequeue() {
+        if (isEmpty()) {
+            return null;
+        }
+        int length = skipToRecord();
+        byte[] bytes = payload(readBuffer, readOffset, length);
+        readOffset += HEADER + length;
+        saveCursor(readSegment, readOffset);
+        size--;
+        return codec.decode(bytes);
+    }
+
+    // Forces written records and the read cursor to the storage device
+    public void flush() {
+        writeBuffer.force();
+        cursor.force();
+    }
+
+    // Flushes the queue; the queue must not be used afterwards
+    @Override
+    public void close() {
+        flush();
+        writeBuffer = null;                     // Mappings are released when collected
+        readBuffer = null;
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Moves the reader past end markers to the next record and returns its payload length
+    private int skipToRecord() {
+        while (true) {
+            int header = segmentSize - readOffset < HEADER ? END_OF_SEGMENT : readBuffer.getInt(readOffset);
+            if (header > 0) {
+                return header - 1;
+            }
+            // End of segment (size > 0 guarantees the next segment exists): delete and move on
+            try {
+                Files.deleteIfExists(segmentPath(readSegment));
+                readSegment++;
+                readOffset = 0;
+                readBuffer = readSegment == writeSegment ? writeBuffer : map(segmentPath(readSegment), segmentSize);
+            }
+            catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            saveCursor(readSegment, readOffset);
+        }
+    }
+
+    // Closes the write segment with an end marker and starts appending to a new one
+    private void rollOver() {
+        if (segmentSize - writeOffset >= HEADER) {
+            writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+        }
+        try {
+            writeSegment++;
+            writeBuffer = map(segmentPath(writeSegment), segmentSize);
+            writeOffset = 0;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Counts the unread records from the read cursor up to the last segment, and positions
+    // the writer just after the last record
+    private void recover(long lastSegment) throws IOException {
+        MappedByteBuffer buffer = readBuffer;
+        int offset = readOffset;
+        for (long segment = readSegment; ; segment++) {
+            while (segmentSize - offset >= HEADER) {
+                int header = buffer.getInt(offset);
+                if (header <= 0) {
+                    break;                      // Unwritten space or end marker
+                }
+                offset += HEADER + header - 1;
+                size++;
+            }
+            if (segment == lastSegment) {
+                writeSegment = segment;
+                writeBuffer = buffer;
+                writeOffset = offset;
+                return;
+            }
+            buffer = map(segmentPath(segment + 1), segmentSize);
+            offset = 0;
+        }
+    }
+
+    // Writes the read cursor to the cursor file
+    private void saveCursor(long segment, int offset) {
+        cursor.putLong(0, segment);
+        cursor.putInt(Long.BYTES, offset);
+    }
+
+    // Copies the payload of the record whose header is at the given offset
+    private static byte[] payload(MappedByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset + HEADER, bytes);
+        return bytes;
+    }
+
+    // Returns the numbers of the segment files in the directory, in ascending order
+    private long[] existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                        .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                        .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                        .sorted()
+                        .toArray();
+        }
+    }
+
+    // Returns the path of the given segment file
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    // Maps (creating and zero-extending if needed) the first length bytes of the given file
+    private static MappedByteBuffer map(Path file, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);  // Stays valid after close
+        }
+    }
+}
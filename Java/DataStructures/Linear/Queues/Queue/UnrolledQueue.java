@@ -0,0 +1,108 @@
+package org.dsahub;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
+/*
+    UNROLLED QUEUE
+    ------------------------------------------------------------------------------------
+    Description:
+    - A linear data structure that follows the First In, First Out (FIFO) principle.
+    - Implemented using the adapter pattern to adapt an UnrolledLinkedList to the
+      QueueInterface: elements are enqueued at the end of the last chunk and dequeued from
+      the front of the first chunk.
+
+    Characteristics:
+    - Time complexity:
+        * Enqueue: O(1)
+        * Dequeue: O(1)
+        * Access: O(1)
+        * Search: O(n)
+     - Space complexity: O(n)
+     - Use cases: Unbounded FIFO buffers that need array-like locality.
+
+     - Advantages: No capacity limit and no resize copy (unlike ArrayQueue); one chunk per
+       chunkSize elements instead of one node per element (unlike LinkedQueue).
+     - Disadvantages: Up to two partially filled chunks of unused slots.
+
+     Operation/Methods:
+     - size()
+     - isEmpty()
+     - first(): Returns (but does not remove) the front element
+     - enqueue(E e): Adds element e to the rear of the queue
+     - dequeue(): Removes and returns the front element of the queue
+     - iterator(): Returns a fail-fast iterator of the elements, from front to rear
+     - forEach(Consumer<? super E> action): Performs the action on every element, front to rear
+
+ */
+
+
+public class UnrolledQueue<E> implements QueueInterface<E>, Iterable<E> {
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // the UnrolledLinkedList to the QueueInterface
+    private final UnrolledLinkedList<E> list;
+
+
+    // CONSTRUCTORS
+
+    public UnrolledQueue() {
+        list = new UnrolledLinkedList<>();
+    }
+
+    public UnrolledQueue(int chunkSize) {
+        list = new UnrolledLinkedList<>(chunkSize);
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public E first() {
+        return list.first();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void enqueue(E e) {
+        list.addLast(e);
+    }
+
+    @Override
+    public E dequeue() {
+        return list.removeFirst();
+    }
+
+}
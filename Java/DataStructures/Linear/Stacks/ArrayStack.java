@@ -1,5 +1,11 @@
 package org.dsahub;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /*
     ARRAY STACK
@@ -20,16 +26,61 @@ package org.dsahub;
     - Advantages: Efficient access and insertion/removal at the top.
     - Disadvantages: Fixed capacity, potential wasted space or need for resizing.
 
+    Growable mode:
+    - Constructed with a GrowthPolicyInterface, a full stack grows instead of throwing
+      "Stack is full" (doubling, 1.5x, fixed increment, optionally capped). Push is then
+      O(1) amortized for the doubling and 1.5x policies.
+    - With shrinking enabled, the array is halved whenever the stack drops to a quarter
+      of its capacity (never below the initial capacity). The gap between the grow point
+      (full) and the shrink point (quarter full) stops a stack hovering around a boundary
+      from resizing on every push/pop, while memory taken by a spike is given back.
+    - trimToSize() shrinks a growable stack's array to its current size on demand.
+
+    Iteration:
+    - Iterable in pop order (top to bottom), like the other stacks. The iterator is
+      fail-fast, forEach walks the array downwards directly, and the spliterator splits
+      the index range exactly (SIZED | SUBSIZED) for parallel streams.
+
     Operation/Methods:
     - size(): Returns the number of elements in the stack.
     - isEmpty(): Tests whether the stack is empty.
     - push(E e): Inserts an element at the top of the stack.
     - top(): Returns (but does not remove) the element at the top of the stack.
     - pop(): Removes and returns the top element from the stack.
+    - capacity(): Returns the current length of the underlying array.
+    - pushAll(E[] elements): Pushes all elements in order (the last one ends on top).
+    - popN(int n, E[] dest): Pops up to n elements into dest, bottom-to-top order.
+    - trimToSize(): Shrinks the array of a growable stack to the current size.
+    - iterator(): Returns a fail-fast iterator of the elements, from top to bottom.
+    - forEach(Consumer<? super E> action): Performs the action on every element, top to bottom.
+    - spliterator(): Returns a splittable, fail-fast spliterator of the elements, top to bottom.
 */
 
 
-public class ArrayStack<E> implements StackInterface<E> {
+public class ArrayStack<E> implements StackInterface<E>, Iterable<E> {
+
+
+    //-------------- NESTED ARRAY ITERATOR CLASS ---------------
+    private class ArrayIterator implements Iterator<E> {
+
+        private int j = t;                      // Index of the next element to report
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j >= 0;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            checkForComodification(expectedModCount);
+            if (j < 0) {
+                throw new NoSuchElementException("No next element");
+            }
+            return data[j--];
+        }
+    }
+    //---------- END OF NESTED ARRAY ITERATOR CLASS ------------
 
 
     // INSTANCE VARIABLES
@@ -37,6 +88,10 @@ public class ArrayStack<E> implements StackInterface<E> {
     public static final int CAPACITY = 1000;    // Default array capacity
     private E[] data;                           // Generic array used for storage
     private int t = -1;                         // Index of top element in stack
+    private final GrowthPolicyInterface policy; // How to grow when full (null: fixed capacity)
+    private final boolean shrinkable;           // Halve the array at quarter occupancy
+    private final int minCapacity;              // Shrinking never goes below this
+    private int modCount = 0;                   // Structural modifications, for fail-fast iteration
 
 
     // CONSTRUCTORS
@@ -48,7 +103,29 @@ public class ArrayStack<E> implements StackInterface<E> {
 
     // Constructs stack with given capacity
     public ArrayStack(int capacity) {
+        this(capacity, null, false);
+    }
+
+    // Constructs a stack that grows by the given policy once the initial capacity is used up
+    public ArrayStack(int capacity, GrowthPolicyInterface policy) {
+        this(capacity, policy, false);
+    }
+
+    // Constructs a stack that grows by the given policy and optionally shrinks again
+    public ArrayStack(int capacity, GrowthPolicyInterface policy, boolean shrinkable) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        if (policy != null && capacity < 1) {
+            throw new IllegalArgumentException("Capacity of a growable stack must be positive");
+        }
+        if (shrinkable && policy == null) {
+            throw new IllegalArgumentException("Only a growable stack can shrink");
+        }
         data = (E[]) new Object[capacity];      // safe cast; compiler may give warning
+        this.policy = policy;
+        this.shrinkable = shrinkable;
+        this.minCapacity = capacity;
     }
 
 
@@ -60,6 +137,9 @@ public class ArrayStack<E> implements StackInterface<E> {
     public boolean isEmpty() {
         return (t == -1);
     }
+    public int capacity() {
+        return data.length;
+    }
 
     @Override
     public E top() {
@@ -69,14 +149,36 @@ public class ArrayStack<E> implements StackInterface<E> {
         return data[t];
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayIterator();
+    }
+
+    // Performs the action on every element from top to bottom, reading the array directly
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        E[] data = this.data;
+        for (int i = t; i >= 0 && modCount == expectedModCount; i--) {
+            action.accept(data[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexedSpliterator<>(i -> data[t - i], this::size, () -> modCount);
+    }
+
     // PUBLIC UPDATE METHODS
 
     @Override
     public void push(E e) {
         if (size() == data.length) {
-            throw new IllegalStateException("Stack is full");
+            ensureCapacity(size() + 1);         // Throws if the stack cannot grow
         }
         data[++t] = e;                          // Increment t before storing new item
+        modCount++;
     }
 
     @Override
@@ -87,6 +189,77 @@ public class ArrayStack<E> implements StackInterface<E> {
         E answer = data[t];
         data[t] = null;                         // Dereference to help garbage collection
         t--;
+        modCount++;
+        shrinkIfSparse();
         return answer;
     }
+
+    // Pushes all given elements in order, so the last one ends up on top
+    public void pushAll(E[] elements) {
+        int n = elements.length;
+        ensureCapacity(size() + n);             // Grow once, or fail before pushing anything
+        System.arraycopy(elements, 0, data, t + 1, n);
+        t += n;
+        modCount++;
+    }
+
+    // Pops min(n, size()) elements into dest[0..], in bottom-to-top order (the former top
+    // ends up last), and returns how many were popped
+    public int popN(int n, E[] dest) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        int count = Math.min(n, size());
+        if (count > dest.length) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        int from = t + 1 - count;
+        System.arraycopy(data, from, dest, 0, count);
+        Arrays.fill(data, from, t + 1, null);   // Dereference to help garbage collection
+        t -= count;
+        modCount++;
+        shrinkIfSparse();
+        return count;
+    }
+
+    // Shrinks the array of a growable stack to the current size (but at least one slot)
+    public void trimToSize() {
+        if (policy != null && data.length > Math.max(size(), 1)) {
+            resize(Math.max(size(), 1));
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    // Throws if the stack was structurally modified since an iteration read expectedModCount
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Makes room for at least required elements, growing by the policy if there is one
+    private void ensureCapacity(int required) {
+        if (required <= data.length) {
+            return;
+        }
+        int length = (policy == null) ? data.length : policy.newCapacity(data.length, required);
+        if (required < 0 || length < required) {
+            throw new IllegalStateException("Stack is full");
+        }
+        resize(length);
+    }
+
+    // Halves the array once the stack is down to a quarter of it
+    private void shrinkIfSparse() {
+        if (shrinkable && data.length > minCapacity && size() <= data.length / 4) {
+            resize(Math.max(data.length / 2, minCapacity));
+        }
+    }
+
+    // Moves the elements to a new array of the given length
+    private void resize(int length) {
+        data = Arrays.copyOf(data, length);
+    }
 }
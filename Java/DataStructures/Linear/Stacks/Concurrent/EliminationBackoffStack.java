@@ -0,0 +1,180 @@
+package org.dsahub;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+
+/*
+    ELIMINATION-BACKOFF STACK
+    ------------------------------------------------------------------------------------
+    Description:
+    - A lock-free stack that keeps scaling when many threads push and pop at once, by
+      letting a push and a pop cancel each other out instead of both touching the top.
+    - Every operation first makes one attempt on an ordinary TreiberStack. Only if that
+      CAS loses a race (i.e. the top is contended) does the thread back off - not by
+      sleeping, but by visiting a random slot of an elimination array:
+        * Each slot is an exchanger. A thread that finds it empty parks its offer there
+          (a push offers its element, a pop offers null) and spins for a while.
+        * A thread that finds an offer waiting takes it and leaves its own in return.
+        * If a push met a pop, both are done: the pop returns the pushed element, and
+          the stack itself was never touched. This is linearizable, since the push and
+          pop could have happened back to back on the top.
+        * If two pushes or two pops met, or nobody came before the spins ran out, both
+          go back and retry on the top.
+    - The more contended the top, the more threads end up in the array, and the more
+      pairs are eliminated there in parallel: the slots act as stripes for the top.
+    - Each slot state is an AtomicStampedReference: the reference is the offer, the stamp
+      is EMPTY, WAITING (an offer is parked) or BUSY (a partner has answered).
+
+    Characteristics:
+    - Time complexity:
+        * Push / Pop: O(1) expected (lock-free; bounded spinning per backoff)
+        * Size: O(n) (walks the list)
+    - Space complexity: O(n + slots)
+    - Use cases: Object pools and free lists shared by many threads with a balanced mix
+      of pushes and pops.
+
+    - Advantages: Throughput grows with contention instead of collapsing on one CAS.
+    - Disadvantages: Elimination only helps balanced workloads (all-push or all-pop
+      traffic just adds up to SPINS checks of backoff per lost race); null elements are
+      not allowed.
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - top(): Returns (but does not remove) the top element
+    - push(E e): Inserts an element at the top of the stack (or hands it to a pop)
+    - pop(): Removes and returns the top element (null if empty)
+    - slots(): Number of exchanger slots in the elimination array
+
+ */
+
+
+public class EliminationBackoffStack<E> extends TreiberStack<E> {
+
+    public static final int SPINS = 128;            // Checks a parked offer waits for a partner
+    private static final Object TIMED_OUT = new Object();   // Exchange result: nobody came
+
+
+    //-------------- NESTED EXCHANGER CLASS ---------------
+    // One elimination slot, swapping an offer between exactly two threads
+    private static final class Exchanger {
+
+        private static final int EMPTY = 0;
+        private static final int WAITING = 1;
+        private static final int BUSY = 2;
+
+        private final AtomicStampedReference<Object> slot = new AtomicStampedReference<>(null, EMPTY);
+
+        // Offers `mine` for up to `spins` checks; returns the partner's offer or TIMED_OUT
+        Object exchange(Object mine, int spins) {
+            int[] state = new int[1];
+            for (int i = 0; i < spins; i++) {
+                Object other = slot.get(state);
+                if (state[0] == EMPTY) {
+                    if (slot.compareAndSet(other, mine, EMPTY, WAITING)) {
+                        return awaitPartner(mine, spins - i);
+                    }
+                }
+                else if (state[0] == WAITING) {
+                    if (slot.compareAndSet(other, mine, WAITING, BUSY)) {
+                        return other;           // Answered a parked offer; its owner resets the slot
+                    }
+                }
+                Thread.onSpinWait();            // BUSY, or lost a race for the slot
+            }
+            return TIMED_OUT;
+        }
+
+        // Owner of a parked offer: waits for a partner, then frees the slot
+        private Object awaitPartner(Object mine, int spins) {
+            int[] state = new int[1];
+            for (int i = 0; i < spins; i++) {
+                Object other = slot.get(state);
+                if (state[0] == BUSY) {
+                    slot.set(null, EMPTY);
+                    return other;
+                }
+                Thread.onSpinWait();
+            }
+            if (slot.compareAndSet(mine, null, WAITING, EMPTY)) {
+                return TIMED_OUT;               // Withdrew the offer
+            }
+            Object other = slot.getReference(); // A partner answered at the last moment
+            slot.set(null, EMPTY);
+            return other;
+        }
+    }
+    //---------- END OF NESTED EXCHANGER CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    private final Exchanger[] eliminationArray;
+
+
+    // CONSTRUCTORS
+
+    // Constructs a stack with one slot per two available processors
+    public EliminationBackoffStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    public EliminationBackoffStack(int slots) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("Slots must be positive");
+        }
+        eliminationArray = new Exchanger[slots];
+        for (int i = 0; i < slots; i++) {
+            eliminationArray[i] = new Exchanger();
+        }
+    }
+
+
+    // ACCESS METHODS
+
+    public int slots() {
+        return eliminationArray.length;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void push(E e) {
+        Node<E> node = newNode(e);
+        while (!tryPush(node)) {
+            Object other = randomSlot().exchange(e, SPINS);
+            if (other == null) {
+                return;                         // Met a pop: it took our element
+            }
+            // Timed out or met another push: back to the top
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        while (true) {
+            Node<E> node = tryPop();
+            if (node == EMPTY) {
+                return null;
+            }
+            if (node != null) {
+                return node.element;
+            }
+            Object other = randomSlot().exchange(null, SPINS);
+            if (other != TIMED_OUT && other != null) {
+                return (E) other;               // Met a push: took its element
+            }
+            // Timed out or met another pop: back to the top
+        }
+    }
+
+
+    // PRIVATE UTILITY METHODS
+
+    private Exchanger randomSlot() {
+        return eliminationArray[ThreadLocalRandom.current().nextInt(eliminationArray.length)];
+    }
+}
@@ -0,0 +1,149 @@
+package org.dsahub;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/*
+    TREIBER STACK (LOCK-FREE)
+    ------------------------------------------------------------------------------------
+    Description:
+    - An unbounded, lock-free stack that any number of threads may push to and pop from.
+    - A singly linked list whose top is an AtomicReference:
+        * Push links a new node in front of the current top, then swings top to it with
+          a CAS.
+        * Pop swings top to the second node with a CAS and returns the old top's element.
+      A failed CAS means another thread changed the top first; the operation simply
+      re-reads the top and tries again.
+    - Nodes are never reused, so the ABA problem cannot occur (the garbage collector
+      does not recycle a node while any thread still holds a reference to it).
+    - tryPush/tryPop make a single attempt and report a lost race instead of retrying;
+      EliminationBackoffStack builds on them.
+
+    Characteristics:
+    - Time complexity:
+        * Push: O(1) (lock-free, retries only under contention)
+        * Pop: O(1) (lock-free, retries only under contention)
+        * Top: O(1)
+        * Size: O(n) (walks the list)
+    - Space complexity: O(n)
+    - Use cases: Shared free lists and object pools with moderate contention.
+
+    - Advantages: No locks, no capacity limit.
+    - Disadvantages: Every operation CASes the same top reference, so it stops scaling
+      under heavy contention; one node allocation per element; null elements are not
+      allowed (null signals an empty stack).
+
+    Operation/Methods:
+    - size(): Returns a snapshot of the number of elements
+    - isEmpty()
+    - top(): Returns (but does not remove) the top element
+    - push(E e): Inserts an element at the top of the stack
+    - pop(): Removes and returns the top element (null if empty)
+
+ */
+
+
+public class TreiberStack<E> implements StackInterface<E> {
+
+
+    //-------------- NESTED NODE CLASS ---------------
+    static class Node<E> {
+
+        final E element;                        // Reference to the element stored at this node
+        Node<E> next;                           // Node below this one (fixed once published)
+
+        Node(E e) {
+            element = e;
+        }
+    }
+    //---------- END OF NESTED NODE CLASS ------------
+
+
+    // INSTANCE VARIABLES
+
+    @SuppressWarnings("rawtypes")
+    static final Node EMPTY = new Node<>(null);     // Returned by tryPop for an empty stack
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+
+
+    // CONSTRUCTORS
+
+    // Constructs a new empty stack
+    public TreiberStack() {}
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (Node<E> node = top.get(); node != null && count < Integer.MAX_VALUE; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public E top() {
+        Node<E> node = top.get();
+        return (node == null) ? null : node.element;
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void push(E e) {
+        Node<E> node = newNode(e);
+        while (!tryPush(node)) {
+            // Lost a race for the top; retry
+        }
+    }
+
+    @Override
+    public E pop() {
+        while (true) {
+            Node<E> node = tryPop();
+            if (node == EMPTY) {
+                return null;
+            }
+            if (node != null) {
+                return node.element;
+            }
+        }
+    }
+
+
+    // PACKAGE-PRIVATE UTILITY METHODS
+
+    // Creates the node for a push, rejecting null elements
+    static <E> Node<E> newNode(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Null elements are not supported");
+        }
+        return new Node<>(e);
+    }
+
+    // One attempt to push the node; returns false if another thread changed the top first
+    boolean tryPush(Node<E> node) {
+        Node<E> oldTop = top.get();
+        node.next = oldTop;
+        return top.compareAndSet(oldTop, node);
+    }
+
+    // One attempt to pop; returns the popped node, EMPTY if the stack was empty,
+    // or null if another thread changed the top first
+    @SuppressWarnings("unchecked")
+    Node<E> tryPop() {
+        Node<E> oldTop = top.get();
+        if (oldTop == null) {
+            return EMPTY;
+        }
+        return top.compareAndSet(oldTop, oldTop.next) ? oldTop : null;
+    }
+}
@@ -0,0 +1,67 @@
+package org.dsahub;
+
+/*
+    GROWTH POLICY INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - Decides how much a full array-backed collection (e.g. a growable ArrayStack) grows.
+    - Static factory methods provide the common policies; they can be combined, e.g.
+      capped(oneAndHalf(), 1 << 20) grows by 1.5x but never beyond a million slots.
+
+    Policies:
+    - doubling(): New capacity = 2 * current. Fewest resize copies, up to 50% slack.
+    - oneAndHalf(): New capacity = 1.5 * current (java.util.ArrayList's policy). More
+      copies, less slack.
+    - fixedIncrement(k): New capacity = current + k. Predictable memory, but O(n / k)
+      copies, so pushing n elements costs O(n^2 / k).
+    - capped(policy, max): Any policy, but never beyond max elements; once reached the
+      collection reports that it is full.
+
+    Methods:
+    - newCapacity(current, required): Returns the capacity to grow to, which is at least
+      required, or a value below required if the collection must not grow.
+*/
+
+public interface GrowthPolicyInterface {
+
+    // Largest array length the built-in policies will ask for
+    int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    // Returns the capacity to grow to from current so that at least required elements
+    // fit, or a value below required to refuse growing
+    int newCapacity(int current, int required);
+
+
+    // STATIC FACTORY METHODS
+
+    // Grows by a factor of 2
+    static GrowthPolicyInterface doubling() {
+        return (current, required) -> clamp((long) current * 2, required);
+    }
+
+    // Grows by a factor of 1.5
+    static GrowthPolicyInterface oneAndHalf() {
+        return (current, required) -> clamp((long) current + (current >> 1), required);
+    }
+
+    // Grows by a fixed number of slots
+    static GrowthPolicyInterface fixedIncrement(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("Increment must be positive");
+        }
+        return (current, required) -> clamp((long) current + increment, required);
+    }
+
+    // Grows like the given policy, but never beyond maxCapacity
+    static GrowthPolicyInterface capped(GrowthPolicyInterface policy, int maxCapacity) {
+        if (maxCapacity < 1) {
+            throw new IllegalArgumentException("Maximum capacity must be positive");
+        }
+        return (current, required) -> Math.min(policy.newCapacity(current, required), maxCapacity);
+    }
+
+    // Proposed capacity, raised to at least required and limited to MAX_ARRAY_LENGTH
+    private static int clamp(long proposed, int required) {
+        return (int) Math.min(Math.max(proposed, required), MAX_ARRAY_LENGTH);
+    }
+}
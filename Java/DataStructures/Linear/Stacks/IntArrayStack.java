@@ -0,0 +1,93 @@
+package org.dsahub;
+
+
+/*
+    INT ARRAY STACK
+    ------------------------------------------------------------------------------------
+    Description:
+    - ArrayStack specialized for primitive int elements, stored directly in an int[].
+    - No element is ever boxed, so push/pop allocate nothing.
+
+    Characteristics:
+    - Time complexity:
+        * Access (top): O(1)
+        * Search: O(n)
+        * Insertion (push): O(1)
+        * Deletion (pop): O(1)
+    - Space complexity: O(n), 4 bytes per slot (vs a reference plus a 16-byte Integer)
+    - Use cases: Stacks of ids, indices or other int values on hot paths.
+
+    - Advantages: No boxing, no allocation per operation, compact storage.
+    - Disadvantages: Fixed capacity, int elements only.
+
+    Operation/Methods:
+    - size(): Returns the number of elements in the stack.
+    - isEmpty(): Tests whether the stack is empty.
+    - push(int e): Inserts an element at the top of the stack.
+    - topInt(): Returns (but does not remove) the element at the top of the stack.
+    - popInt(): Removes and returns the top element from the stack.
+*/
+
+
+public class IntArrayStack implements IntStackInterface {
+
+
+    // INSTANCE VARIABLES
+
+    public static final int CAPACITY = 1000;    // Default array capacity
+    private int[] data;                         // Primitive array used for storage
+    private int t = -1;                         // Index of top element in stack
+
+
+    // CONSTRUCTORS
+
+    // Constructs stack with default capacity
+    public IntArrayStack() {
+        this(CAPACITY);
+    }
+
+    // Constructs stack with given capacity
+    public IntArrayStack(int capacity) {
+        data = new int[capacity];
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return (t + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (t == -1);
+    }
+
+    @Override
+    public int topInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return data[t];
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void push(int e) {
+        if (size() == data.length) {
+            throw new IllegalStateException("Stack is full");
+        }
+        data[++t] = e;                          // Increment t before storing new item
+    }
+
+    @Override
+    public int popInt() throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return data[t--];                       // No reference to clear for primitives
+    }
+}
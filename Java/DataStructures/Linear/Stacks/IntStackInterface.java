@@ -0,0 +1,36 @@
+package org.dsahub;
+
+/*
+    INT STACK INTERFACE
+    ------------------------------------------------------------------------------------
+    Description:
+    - The StackInterface specialized for primitive int elements, so elements are never
+      boxed into Integer objects.
+    - An empty stack cannot return null here, so top/pop throw instead.
+
+    Methods:
+    - size(): Returns the number of elements in the stack.
+    - isEmpty(): Tests whether the stack is empty.
+    - push(int e): Inserts an element at the top of the stack.
+    - topInt(): Returns (but does not remove) the element at the top of the stack.
+    - popInt(): Removes and returns the top element from the stack.
+*/
+
+public interface IntStackInterface {
+
+    // Returns the number of elements in the stack
+    int size();
+
+    // Tests whether the stack is empty
+    boolean isEmpty();
+
+    // Inserts an element at the top of the stack
+    void push(int e);
+
+    // Returns (but does not remove) the element at the top of the stack (throws if empty)
+    int topInt() throws IllegalStateException;
+
+    // Removes and returns the top element from the stack (throws if empty)
+    int popInt() throws IllegalStateException;
+
+}
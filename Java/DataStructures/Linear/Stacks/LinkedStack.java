@@ -1,5 +1,9 @@
 package org.dsahub;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 
 /*
     LINKED STACK (USING ADAPTER PATTERN)
@@ -26,10 +30,12 @@ package org.dsahub;
     - push(E e): Inserts an element at the top of the stack.
     - top(): Returns (but does not remove) the element at the top of the stack.
     - pop(): Removes and returns the top element from the stack.
+    - iterator(): Returns a fail-fast iterator of the elements, from top to bottom.
+    - forEach(Consumer<? super E> action): Performs the action on every element, top to bottom.
 */
 
 
-public class LinkedStack<E> implements StackInterface<E> {
+public class LinkedStack<E> implements StackInterface<E>, Iterable<E> {
 
 
     // INSTANCE VARIABLES
@@ -61,6 +67,21 @@ public class LinkedStack<E> implements StackInterface<E> {
         return list.first();
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();                 // The top of the stack is the front of the list
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
 
     // PUBLIC UPDATE METHODS
 
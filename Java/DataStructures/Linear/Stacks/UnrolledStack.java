@@ -0,0 +1,99 @@
+package org.dsahub;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+
+/*
+    UNROLLED STACK (USING ADAPTER PATTERN)
+    ------------------------------------------------------------------------------------
+    Description:
+    - Implementation of an unbounded stack using an UnrolledLinkedList: elements are kept
+      in linked array chunks, pushed and popped at the end of the last chunk.
+    - Unlike ArrayStack there is no capacity to run out of and no resize copy; unlike
+      LinkedStack there is no node object (and pointer chase) per element.
+
+    Characteristics:
+    - Time complexity:
+        * Access (top): O(1)
+        * Search: O(n)
+        * Insertion (push): O(1)
+        * Deletion (pop): O(1)
+    - Space complexity: O(n)
+    - Use cases: Deep DFS/backtracking stacks whose maximum size is not known up front.
+
+    - Advantages: Unbounded, array-like locality, allocates only one chunk per chunkSize pushes.
+    - Disadvantages: Up to one chunk of unused slots.
+
+    Operation/Methods:
+    - size(): Returns the number of elements in the stack.
+    - isEmpty(): Tests whether the stack is empty.
+    - push(E e): Inserts an element at the top of the stack.
+    - top(): Returns (but does not remove) the element at the top of the stack.
+    - pop(): Removes and returns the top element from the stack.
+    - iterator(): Returns a fail-fast iterator of the elements, from top to bottom.
+*/
+
+
+public class UnrolledStack<E> implements StackInterface<E>, Iterable<E> {
+
+
+    // INSTANCE VARIABLES
+
+    // This implementation uses the adapter pattern to adapt
+    // the UnrolledLinkedList to the StackInterface
+    private final UnrolledLinkedList<E> list;
+
+
+    // CONSTRUCTORS
+
+    public UnrolledStack() {
+        list = new UnrolledLinkedList<>();
+    }
+
+    public UnrolledStack(int chunkSize) {
+        list = new UnrolledLinkedList<>(chunkSize);
+    }
+
+
+    // ACCESS METHODS
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public E top() {
+        return list.last();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list.descendingIterator();       // From the end of the list: top to bottom
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), list.size(), Spliterator.ORDERED);
+    }
+
+
+    // PUBLIC UPDATE METHODS
+
+    @Override
+    public void push(E e) {
+        list.addLast(e);                        // Top of the stack is the end of the list
+    }
+
+    @Override
+    public E pop() {
+        return list.removeLast();
+    }
+}